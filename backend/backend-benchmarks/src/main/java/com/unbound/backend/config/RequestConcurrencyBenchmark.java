@@ -0,0 +1,150 @@
+package com.unbound.backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.catalina.Context;
+import org.apache.catalina.connector.Connector;
+import org.apache.catalina.startup.Tomcat;
+import org.apache.coyote.http11.AbstractHttp11Protocol;
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 500 concurrent users (NFR-PERF-01) against embedded Tomcat with either the default
+ * 200-thread platform pool or a virtual thread per request. Each request holds a
+ * pooled H2 connection for {@code dbMillis} (query plus row-lock wait) and then
+ * blocks {@code remoteMillis} with no connection held, standing in for SMTP or
+ * Razorpay. One operation is a full burst; users / time = requests per second.
+ *
+ * The virtual case needs Java 21+; on 17 run with -p threading=platform.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class RequestConcurrencyBenchmark {
+
+    @Param({"platform", "virtual"})
+    public String threading;
+
+    @Param({"500"})
+    public int users;
+
+    @Param({"40"})
+    public int poolSize;
+
+    @Param({"5"})
+    public long dbMillis;
+
+    @Param({"200"})
+    public long remoteMillis;
+
+    private HikariDataSource dataSource;
+    private Tomcat tomcat;
+    private HttpClient client;
+    private HttpRequest request;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        if ("virtual".equals(threading) && Runtime.version().feature() < 21) {
+            throw new IllegalStateException("Virtual threads need Java 21+, running " + Runtime.version());
+        }
+
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:concurrency;DB_CLOSE_DELAY=-1");
+        dataSource.setMaximumPoolSize(poolSize);
+        dataSource.setConnectionTimeout(30_000);
+
+        tomcat = new Tomcat();
+        tomcat.setBaseDir(Files.createTempDirectory("tomcat").toString());
+        Connector connector = tomcat.getConnector();
+        connector.setPort(0);
+        AbstractHttp11Protocol<?> protocol = (AbstractHttp11Protocol<?>) connector.getProtocolHandler();
+        protocol.setMaxConnections(10_000);
+        protocol.setAcceptCount(1_000);
+        protocol.setMaxKeepAliveRequests(-1);
+        if ("virtual".equals(threading)) {
+            protocol.setExecutor(new VirtualThreadExecutor("tomcat-handler-"));
+        } else {
+            protocol.setMaxThreads(200);
+        }
+
+        Context context = tomcat.addContext("", null);
+        Tomcat.addServlet(context, "work", new WorkServlet());
+        context.addServletMappingDecoded("/work", "work");
+        tomcat.start();
+
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        request = HttpRequest.newBuilder(URI.create("http://localhost:" + connector.getLocalPort() + "/work")).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        tomcat.stop();
+        tomcat.destroy();
+        dataSource.close();
+    }
+
+    @Benchmark
+    public int burst() {
+        List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding()));
+        }
+        int ok = 0;
+        for (CompletableFuture<HttpResponse<Void>> response : responses) {
+            if (response.join().statusCode() == 200) {
+                ok++;
+            }
+        }
+        if (ok != users) {
+            throw new IllegalStateException(ok + "/" + users + " requests succeeded");
+        }
+        return ok;
+    }
+
+    private class WorkServlet extends HttpServlet {
+
+        @Override
+        protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+            try (Connection connection = dataSource.getConnection();
+                 PreparedStatement statement = connection.prepareStatement("SELECT 1");
+                 ResultSet rs = statement.executeQuery()) {
+                rs.next();
+                Thread.sleep(dbMillis);
+            } catch (SQLException e) {
+                throw new IOException(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+
+            try {
+                Thread.sleep(remoteMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            resp.setStatus(HttpServletResponse.SC_OK);
+        }
+    }
+}
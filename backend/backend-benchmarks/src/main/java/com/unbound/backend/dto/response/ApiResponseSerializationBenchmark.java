@@ -0,0 +1,76 @@
+package com.unbound.backend.dto.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unbound.backend.enums.EventCategory;
+import com.unbound.backend.enums.EventStatus;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ApiResponse envelopes written to bytes by the ObjectMapper Boot configures for
+ * the app (JavaTimeModule, ISO dates), for a single event and for event list pages.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ApiResponseSerializationBenchmark {
+
+    @Param({"1", "50"})
+    public int events;
+
+    private AnnotationConfigApplicationContext context;
+    private ObjectMapper objectMapper;
+    private ApiResponse<List<EventResponse>> response;
+
+    @Setup
+    public void setup() {
+        context = new AnnotationConfigApplicationContext(JacksonAutoConfiguration.class);
+        objectMapper = context.getBean(ObjectMapper.class);
+
+        List<EventResponse> page = new ArrayList<>(events);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < events; i++) {
+            page.add(EventResponse.builder()
+                    .id(100L + i)
+                    .title("Autonomous Rover Challenge " + i)
+                    .description("Teams of four build and race autonomous rovers across an obstacle course.")
+                    .bannerUrl("https://cdn.unbound.dev/events/" + (100 + i) + "/banner.png")
+                    .venue("Main Auditorium")
+                    .eventDate(now.plusDays(i))
+                    .durationMinutes(180)
+                    .maxParticipants(200)
+                    .currentRegistrations(i * 3)
+                    .feeAmount(250.0)
+                    .isPaid(true)
+                    .category(EventCategory.TECHNICAL)
+                    .status(EventStatus.PUBLISHED)
+                    .festId(5L)
+                    .festName("TechFest 2026")
+                    .clubId(11L)
+                    .clubName("Robotics Club")
+                    .createdAt(now.minusDays(20))
+                    .updatedAt(now.minusDays(1))
+                    .build());
+        }
+        response = ApiResponse.success("Events fetched", page);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] writeEventList() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
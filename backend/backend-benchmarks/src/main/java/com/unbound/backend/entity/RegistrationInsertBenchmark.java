@@ -0,0 +1,117 @@
+package com.unbound.backend.entity;
+
+import com.unbound.backend.enums.ClubStatus;
+import com.unbound.backend.enums.EventCategory;
+import com.unbound.backend.enums.EventStatus;
+import com.unbound.backend.enums.RegistrationStatus;
+import com.unbound.backend.enums.Role;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inserts 10k registrations through Hibernate against in-memory H2, with JDBC
+ * batching off (batch_size=1, which is what IDENTITY ids forced on every insert)
+ * and on (batch_size=50 with the pooled sequence ids). Uses the real entity
+ * mappings; H2 has no network round trip, so gains on PostgreSQL are larger.
+ *
+ * Run: mvn exec:exec -Djmh.args="RegistrationInsert"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class RegistrationInsertBenchmark {
+
+    private static final int REGISTRATIONS = 10_000;
+
+    @Param({"1", "50"})
+    public int batchSize;
+
+    private SessionFactory sessionFactory;
+    private Long eventId;
+    private final List<Long> userIds = new ArrayList<>(REGISTRATIONS);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(College.class)
+                .addAnnotatedClass(User.class)
+                .addAnnotatedClass(Club.class)
+                .addAnnotatedClass(Fest.class)
+                .addAnnotatedClass(Event.class)
+                .addAnnotatedClass(Registration.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:insert-bench-" + batchSize + ";DB_CLOSE_DELAY=-1")
+                .setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, String.valueOf(batchSize))
+                .setProperty(AvailableSettings.ORDER_INSERTS, "true")
+                .setProperty(AvailableSettings.ORDER_UPDATES, "true")
+                .buildSessionFactory();
+
+        sessionFactory.inTransaction(session -> {
+            User owner = User.builder().name("Owner").email("owner@bench.local")
+                    .password("x").role(Role.CLUB_ADMIN).build();
+            session.persist(owner);
+            Club club = Club.builder().name("Bench Club").category("Tech").contactEmail("club@bench.local")
+                    .status(ClubStatus.APPROVED).createdBy(owner).build();
+            session.persist(club);
+            Event event = Event.builder().title("Bench Event").eventDate(LocalDateTime.now().plusDays(7))
+                    .maxParticipants(REGISTRATIONS).category(EventCategory.values()[0])
+                    .status(EventStatus.PUBLISHED).club(club).build();
+            session.persist(event);
+            eventId = event.getId();
+
+            for (int i = 0; i < REGISTRATIONS; i++) {
+                User student = User.builder().name("Student " + i).email("student" + i + "@bench.local")
+                        .password("x").role(Role.STUDENT).build();
+                session.persist(student);
+                userIds.add(student.getId());
+                flushEvery(session, i);
+            }
+        });
+    }
+
+    @Setup(Level.Invocation)
+    public void clearRegistrations() {
+        sessionFactory.inTransaction(session ->
+                session.createMutationQuery("DELETE FROM Registration").executeUpdate());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public void insertRegistrations() {
+        sessionFactory.inTransaction(session -> {
+            Event event = session.getReference(Event.class, eventId);
+            for (int i = 0; i < REGISTRATIONS; i++) {
+                session.persist(Registration.builder()
+                        .user(session.getReference(User.class, userIds.get(i)))
+                        .event(event)
+                        .status(RegistrationStatus.CONFIRMED)
+                        .build());
+                flushEvery(session, i);
+            }
+        });
+    }
+
+    // Keeps the persistence context small, as a real bulk writer would
+    private void flushEvery(Session session, int i) {
+        if ((i + 1) % Math.max(batchSize, 50) == 0) {
+            session.flush();
+            session.clear();
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.unbound.backend.logging;
+
+import ch.qos.logback.classic.LoggerContext;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.boot.logging.LoggingInitializationContext;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Request throughput as seen by the logging pipeline alone. Loads the real
+ * logback-spring.xml through Boot's LoggingSystem, once without profiles (the
+ * synchronous text setup) and once with "prod" (async JSON lines), then replays what
+ * one registration request logs: two service INFO lines, a security DEBUG line and
+ * five SQL statements. With show-sql on (the current default) Hibernate also prints
+ * each statement to stdout; prod instead logs a sampled per-request summary.
+ * <p>
+ * System.out goes to target/ during the run so the console appenders do real I/O
+ * without flooding the JMH output; files land under logs/ in the working directory.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class RequestLoggingBenchmark {
+
+    private static final String[] STATEMENTS = {
+            "select u1_0.id,u1_0.email,u1_0.name,u1_0.role from users u1_0 where u1_0.id=?",
+            "select e1_0.id,e1_0.title,e1_0.capacity,e1_0.fee from events e1_0 where e1_0.id=? for update",
+            "select count(r1_0.id) from registrations r1_0 where r1_0.event_id=? and r1_0.status=?",
+            "select r1_0.id from registrations r1_0 where r1_0.user_id=? and r1_0.event_id=?",
+            "insert into registrations (event_id,registered_at,status,user_id,id) values (?,?,?,?,?)"
+    };
+
+    @Param({"current", "prod"})
+    public String config;
+
+    private LoggingSystem loggingSystem;
+    private PrintStream originalOut;
+    private PrintStream redirectedOut;
+    private boolean prod;
+    private boolean showSql;
+
+    private Logger serviceLog;
+    private Logger securityLog;
+    private Logger sqlLog;
+    private Logger sqlStatsLog;
+
+    @Setup
+    public void setup() throws IOException {
+        originalOut = System.out;
+        redirectedOut = new PrintStream(new BufferedOutputStream(
+                new FileOutputStream("target/request-logging-" + config + ".out"), 64 * 1024), false);
+        System.setOut(redirectedOut);
+
+        prod = "prod".equals(config);
+        showSql = !prod;
+
+        StandardEnvironment environment = new StandardEnvironment();
+        if (prod) {
+            environment.setActiveProfiles("prod");
+        }
+        loggingSystem = LoggingSystem.get(getClass().getClassLoader());
+        loggingSystem.beforeInitialize();
+        loggingSystem.initialize(new LoggingInitializationContext(environment), "classpath:logback-spring.xml", null);
+
+        serviceLog = LoggerFactory.getLogger("com.unbound.backend.service.RegistrationService");
+        securityLog = LoggerFactory.getLogger("com.unbound.backend.security.JwtFilter");
+        sqlLog = LoggerFactory.getLogger("org.hibernate.SQL");
+        sqlStatsLog = LoggerFactory.getLogger("com.unbound.backend.metrics.SqlStatementStatsFilter");
+    }
+
+    @TearDown
+    public void tearDown() {
+        // Stopping the context drains the async queues before the files are closed
+        ((LoggerContext) LoggerFactory.getILoggerFactory()).stop();
+        loggingSystem.cleanUp();
+        System.setOut(originalOut);
+        redirectedOut.close();
+    }
+
+    @Benchmark
+    public void registrationRequest() {
+        if (prod) {
+            MDC.put(CorrelationIdFilter.MDC_KEY, CorrelationIdFilter.newRequestId());
+        }
+        try {
+            long userId = ThreadLocalRandom.current().nextLong(1, 100_000);
+            long eventId = ThreadLocalRandom.current().nextLong(1, 500);
+            securityLog.debug("Authenticated user {} from token", userId);
+            serviceLog.info("User {} registering for event {}", userId, eventId);
+            for (String sql : STATEMENTS) {
+                if (showSql) {
+                    System.out.println("Hibernate: " + sql);
+                }
+                sqlLog.debug(sql);
+            }
+            serviceLog.info("Registration confirmed for user {} on event {}", userId, eventId);
+            if (prod && ThreadLocalRandom.current().nextDouble() < 0.01) {
+                sqlStatsLog.info("SQL sample POST /api/registrations/{}: {} statements", eventId, STATEMENTS.length);
+            }
+        } finally {
+            if (prod) {
+                MDC.remove(CorrelationIdFilter.MDC_KEY);
+            }
+        }
+    }
+}
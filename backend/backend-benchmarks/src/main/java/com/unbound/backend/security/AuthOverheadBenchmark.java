@@ -0,0 +1,122 @@
+package com.unbound.backend.security;
+
+import com.unbound.backend.entity.User;
+import com.unbound.backend.enums.Role;
+import com.unbound.backend.repository.UserAuthStatus;
+import com.unbound.backend.repository.UserRepository;
+import com.unbound.backend.service.UserService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request auth overhead: JwtFilter plus one UserService.getCurrentUser call,
+ * which is what a typical service method pays before doing any work.
+ * The repository is a stub that spins for {@code queryMicros} per call to stand in
+ * for a DB round trip, so the legacy path (two lookups per request) can be compared
+ * with the claims + principal-cache path (none once warm).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthOverheadBenchmark {
+
+    private static final String SECRET = "benchmarkSecretKeyForJWTTokenGenerationMustBe256BitsLong!!";
+
+    @Param({"0", "200"})
+    public long queryMicros;
+
+    private UserRepository userRepository;
+    private JwtUtil jwtUtil;
+    private JwtFilter jwtFilter;
+    private UserService userService;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setup() {
+        user = User.builder()
+                .id(42L)
+                .name("Bench Student")
+                .email("bench@unbound.dev")
+                .password("$2a$10$abcdefghijklmnopqrstuuJ0nH3yq0X8pDgYh0bq9J1kU7y3h4sG6")
+                .role(Role.STUDENT)
+                .isActive(true)
+                .build();
+        userRepository = stubRepository();
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        jwtUtil = new JwtUtil(SECRET, 3_600_000, 10_000);
+        TokenRevocationService revocation =
+                new TokenRevocationService(userRepository, registry, Duration.ofSeconds(60), 100_000);
+        UserPrincipalCache principalCache =
+                new UserPrincipalCache(userRepository, registry, Duration.ofMinutes(5), 50_000);
+        jwtFilter = new JwtFilter(jwtUtil, new UserDetailsServiceImpl(principalCache), revocation, registry);
+        userService = new UserService(userRepository, principalCache, event -> { });
+        token = jwtUtil.generateToken(user);
+    }
+
+    @TearDown(Level.Invocation)
+    public void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public User claimsAndPrincipalCache() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/registrations/my");
+        request.addHeader("Authorization", "Bearer " + token);
+        jwtFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return userService.getCurrentUser();
+    }
+
+    // Pre-claims behaviour: findByEmail in the filter, then again in getCurrentUser
+    @Benchmark
+    public User legacyTwoLookups() {
+        String email = jwtUtil.verify(token).subject();
+        userRepository.findByEmail(email).orElseThrow();
+        return userRepository.findByEmail(email).orElseThrow();
+    }
+
+    private UserRepository stubRepository() {
+        UserAuthStatus status = new UserAuthStatus() {
+            @Override
+            public boolean isActive() {
+                return true;
+            }
+
+            @Override
+            public Role getRole() {
+                return Role.STUDENT;
+            }
+        };
+        return (UserRepository) Proxy.newProxyInstance(
+                UserRepository.class.getClassLoader(),
+                new Class<?>[]{UserRepository.class},
+                (proxy, method, args) -> {
+                    simulateQuery();
+                    return switch (method.getName()) {
+                        case "findByEmail", "findByEmailWithCollege" -> Optional.of(user);
+                        case "findAuthStatusById" -> Optional.of(status);
+                        default -> throw new UnsupportedOperationException(method.getName());
+                    };
+                });
+    }
+
+    private void simulateQuery() {
+        long until = System.nanoTime() + TimeUnit.MICROSECONDS.toNanos(queryMicros);
+        while (System.nanoTime() < until) {
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.unbound.backend.security;
+
+import com.unbound.backend.entity.User;
+import com.unbound.backend.enums.Role;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tokens validated per second: the old triple-parse path in JwtFilter against
+ * the single-parse {@link JwtUtil#verify} with and without the verified-token cache,
+ * plus token generation as paid on every login.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtValidationBenchmark {
+
+    private static final String SECRET = "benchmarkSecretKeyForJWTTokenGenerationMustBe256BitsLong!!";
+    private static final int TOKEN_COUNT = 1024;
+
+    private JwtUtil cachedJwtUtil;
+    private JwtUtil uncachedJwtUtil;
+    private String[] tokens;
+    private User[] users;
+    private int next;
+
+    @Setup
+    public void setup() {
+        cachedJwtUtil = new JwtUtil(SECRET, 3_600_000, 10_000);
+        uncachedJwtUtil = new JwtUtil(SECRET, 3_600_000, 0);
+        tokens = new String[TOKEN_COUNT];
+        users = new User[TOKEN_COUNT];
+        for (int i = 0; i < TOKEN_COUNT; i++) {
+            User user = User.builder()
+                    .id((long) i)
+                    .email("student" + i + "@unbound.dev")
+                    .role(Role.STUDENT)
+                    .isActive(true)
+                    .build();
+            users[i] = user;
+            tokens[i] = cachedJwtUtil.generateToken(user);
+        }
+    }
+
+    private String nextToken() {
+        next = (next + 1) & (TOKEN_COUNT - 1);
+        return tokens[next];
+    }
+
+    // What JwtFilter did before: extractUsername, then isTokenValid → extractUsername + extractExpiration,
+    // each rebuilding the key and the parser
+    @Benchmark
+    public boolean legacyTripleParse() {
+        String token = nextToken();
+        String subject = legacyParse(token).getSubject();
+        boolean sameSubject = legacyParse(token).getSubject().equals(subject);
+        return sameSubject && !legacyParse(token).getExpiration().before(new Date());
+    }
+
+    @Benchmark
+    public VerifiedClaims singleParseUncached() {
+        return uncachedJwtUtil.verify(nextToken());
+    }
+
+    @Benchmark
+    public VerifiedClaims singleParseCached() {
+        return cachedJwtUtil.verify(nextToken());
+    }
+
+    @Benchmark
+    public String generateToken() {
+        next = (next + 1) & (TOKEN_COUNT - 1);
+        return cachedJwtUtil.generateToken(users[next]);
+    }
+
+    private static Claims legacyParse(String token) {
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+}
@@ -0,0 +1,65 @@
+package com.unbound.backend.service;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SmtpEmailService up to the socket: HTML body assembly, MIME message construction
+ * and serialisation of the message to bytes. The sender writes to a null stream
+ * instead of talking SMTP, so network time is excluded. The per-send INFO line is
+ * switched off; logging cost is measured by RequestLoggingBenchmark.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmailRenderingBenchmark {
+
+    private SmtpEmailService emailService;
+    private LocalDateTime eventDate;
+
+    @Setup
+    public void setup() {
+        ((Logger) LoggerFactory.getLogger(SmtpEmailService.class)).setLevel(Level.WARN);
+        JavaMailSenderImpl sender = new JavaMailSenderImpl() {
+            @Override
+            protected void doSend(MimeMessage[] mimeMessages, Object[] originalMessages) {
+                try {
+                    for (MimeMessage message : mimeMessages) {
+                        message.saveChanges();
+                        message.writeTo(OutputStream.nullOutputStream());
+                    }
+                } catch (MessagingException | IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        };
+        emailService = new SmtpEmailService(sender, "noreply@unbound.dev", "Unbound", new SimpleMeterRegistry());
+        eventDate = LocalDateTime.now().plusDays(11);
+    }
+
+    @Benchmark
+    public void registrationConfirmation() {
+        emailService.sendEventRegistrationConfirmation("bench@unbound.dev", "Bench Student",
+                "Autonomous Rover Challenge", eventDate, "Main Auditorium");
+    }
+
+    @Benchmark
+    public void paymentSuccess() {
+        emailService.sendPaymentSuccessNotification("bench@unbound.dev", "Bench Student",
+                "pay_Nf3kF1aBc9dEfG", "250.00");
+    }
+}
@@ -0,0 +1,54 @@
+package com.unbound.backend.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Razorpay callback signature check (HMAC-SHA256 over "orderId|paymentId"),
+ * for a valid and a tampered signature. Runs once per /verify call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PaymentSignatureBenchmark {
+
+    private static final String KEY_SECRET = "benchmarkRazorpayKeySecret";
+    private static final String ORDER_ID = "order_Nf3kD8sLq2xYzA";
+    private static final String PAYMENT_ID = "pay_Nf3kF1aBc9dEfG";
+
+    private PaymentService paymentService;
+    private String validSignature;
+    private String tamperedSignature;
+
+    @Setup
+    public void setup() throws Exception {
+        paymentService = new PaymentService(null, null, null, null, null, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(paymentService, "razorpayKeySecret", KEY_SECRET);
+
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(KEY_SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        validSignature = HexFormat.of().formatHex(
+                mac.doFinal((ORDER_ID + "|" + PAYMENT_ID).getBytes(StandardCharsets.UTF_8)));
+        tamperedSignature = (validSignature.charAt(0) == 'a' ? "b" : "a") + validSignature.substring(1);
+    }
+
+    @Benchmark
+    public boolean validSignature() {
+        return paymentService.verifySignature(ORDER_ID, PAYMENT_ID, validSignature);
+    }
+
+    @Benchmark
+    public boolean tamperedSignature() {
+        return paymentService.verifySignature(ORDER_ID, PAYMENT_ID, tamperedSignature);
+    }
+}
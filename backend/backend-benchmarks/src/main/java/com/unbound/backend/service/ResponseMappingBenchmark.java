@@ -0,0 +1,132 @@
+package com.unbound.backend.service;
+
+import com.unbound.backend.dto.response.ClubResponse;
+import com.unbound.backend.dto.response.EventResponse;
+import com.unbound.backend.dto.response.PaymentHistoryResponse;
+import com.unbound.backend.entity.Club;
+import com.unbound.backend.entity.College;
+import com.unbound.backend.entity.Event;
+import com.unbound.backend.entity.Fest;
+import com.unbound.backend.entity.Payment;
+import com.unbound.backend.entity.User;
+import com.unbound.backend.enums.ClubStatus;
+import com.unbound.backend.enums.EventCategory;
+import com.unbound.backend.enums.EventStatus;
+import com.unbound.backend.enums.PaymentStatus;
+import com.unbound.backend.enums.Role;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity-to-DTO mappers on fully loaded entities, i.e. the cost per row once the
+ * data is in memory. List endpoints pay this once per element.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseMappingBenchmark {
+
+    private EventService eventService;
+    private PaymentService paymentService;
+    private Event event;
+    private Club club;
+    private Payment payment;
+
+    @Setup
+    public void setup() {
+        // The mappers only read the entity; none of the collaborators are touched
+        eventService = new EventService(null, null, null, null, null, null, null);
+        paymentService = new PaymentService(null, null, null, null, null, new SimpleMeterRegistry());
+
+        User owner = User.builder()
+                .id(7L)
+                .name("Club Owner")
+                .email("owner@unbound.dev")
+                .role(Role.CLUB_ADMIN)
+                .isActive(true)
+                .build();
+        College college = College.builder()
+                .id(3L)
+                .name("Institute of Technology")
+                .location("Pune")
+                .createdAt(LocalDateTime.now().minusYears(2))
+                .build();
+        club = Club.builder()
+                .id(11L)
+                .name("Robotics Club")
+                .description("Builds robots and runs the annual line-follower contest.")
+                .logoUrl("https://cdn.unbound.dev/clubs/11/logo.png")
+                .category("TECHNICAL")
+                .contactEmail("robotics@unbound.dev")
+                .college(college)
+                .status(ClubStatus.APPROVED)
+                .createdBy(owner)
+                .createdAt(LocalDateTime.now().minusMonths(6))
+                .updatedAt(LocalDateTime.now().minusDays(3))
+                .build();
+        Fest fest = Fest.builder()
+                .id(5L)
+                .name("TechFest 2026")
+                .startDate(LocalDate.now().plusDays(10))
+                .endDate(LocalDate.now().plusDays(12))
+                .college(college)
+                .build();
+        event = Event.builder()
+                .id(101L)
+                .title("Autonomous Rover Challenge")
+                .description("Teams of four build and race autonomous rovers across an obstacle course.")
+                .bannerUrl("https://cdn.unbound.dev/events/101/banner.png")
+                .venue("Main Auditorium")
+                .feeAmount(250.0)
+                .eventDate(LocalDateTime.now().plusDays(11))
+                .durationMinutes(180)
+                .maxParticipants(200)
+                .category(EventCategory.TECHNICAL)
+                .status(EventStatus.PUBLISHED)
+                .fest(fest)
+                .club(club)
+                .createdAt(LocalDateTime.now().minusDays(20))
+                .updatedAt(LocalDateTime.now().minusDays(1))
+                .build();
+        User student = User.builder()
+                .id(42L)
+                .name("Bench Student")
+                .email("bench@unbound.dev")
+                .role(Role.STUDENT)
+                .isActive(true)
+                .build();
+        payment = Payment.builder()
+                .id(9001L)
+                .user(student)
+                .event(event)
+                .amount(250.0)
+                .razorpayOrderId("order_Nf3kD8sLq2xYzA")
+                .razorpayPaymentId("pay_Nf3kF1aBc9dEfG")
+                .status(PaymentStatus.SUCCESS)
+                .createdAt(LocalDateTime.now().minusDays(2))
+                .updatedAt(LocalDateTime.now().minusDays(2))
+                .build();
+    }
+
+    @Benchmark
+    public EventResponse eventToResponse() {
+        return eventService.toResponse(event, 137);
+    }
+
+    @Benchmark
+    public ClubResponse clubToResponse() {
+        return ClubService.toResponse(club);
+    }
+
+    @Benchmark
+    public PaymentHistoryResponse paymentToHistoryResponse() {
+        return paymentService.toHistoryResponse(payment);
+    }
+}
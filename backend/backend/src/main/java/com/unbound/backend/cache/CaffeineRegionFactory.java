@@ -0,0 +1,77 @@
+package com.unbound.backend.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Second-level cache regions held in local Caffeine caches. Every region is bound
+ * to Micrometer as {@code cache.gets{cache=hibernate.<region>}}, so hit/miss
+ * rates per region show up next to the application caches.
+ *
+ * Update-timestamp entries are never expired: dropping one while a cached query
+ * result for that table is still live would let the stale result be served.
+ */
+public class CaffeineRegionFactory extends RegionFactoryTemplate {
+
+    private final MeterRegistry meterRegistry;
+    private final Duration entityTtl;
+    private final Duration queryTtl;
+    private final long maxSize;
+    private final List<StorageAccess> regions = new CopyOnWriteArrayList<>();
+
+    public CaffeineRegionFactory(MeterRegistry meterRegistry, Duration entityTtl, Duration queryTtl, long maxSize) {
+        this.meterRegistry = meterRegistry;
+        this.entityTtl = entityTtl;
+        this.queryTtl = queryTtl;
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+    }
+
+    @Override
+    protected void releaseFromUse() {
+        regions.forEach(StorageAccess::release);
+        regions.clear();
+    }
+
+    @Override
+    protected DomainDataStorageAccess createDomainDataStorageAccess(
+            DomainDataRegionConfig regionConfig, DomainDataRegionBuildingContext buildingContext) {
+        return register(regionConfig.getRegionName(),
+                Caffeine.newBuilder().expireAfterWrite(entityTtl).maximumSize(maxSize));
+    }
+
+    @Override
+    protected StorageAccess createQueryResultsRegionStorageAccess(String regionName, SessionFactoryImplementor sessionFactory) {
+        return register(regionName, Caffeine.newBuilder().expireAfterWrite(queryTtl).maximumSize(maxSize));
+    }
+
+    @Override
+    protected StorageAccess createTimestampsRegionStorageAccess(String regionName, SessionFactoryImplementor sessionFactory) {
+        return register(regionName, Caffeine.newBuilder());
+    }
+
+    private CaffeineStorageAccess register(String regionName, Caffeine<Object, Object> builder) {
+        Cache<Object, Object> cache = builder.recordStats().build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "hibernate." + regionName);
+        CaffeineStorageAccess storage = new CaffeineStorageAccess(cache);
+        regions.add(storage);
+        return storage;
+    }
+}
@@ -0,0 +1,56 @@
+package com.unbound.backend.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.unbound.backend.datasource.ReadWriteRoutingDataSource;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * One Hibernate cache region backed by a Caffeine cache. Used for entity,
+ * query-result and update-timestamp regions alike. Rows read from the replica
+ * are not cached: the region is shared by every request and a lagging row would
+ * outlive the write that superseded it.
+ */
+class CaffeineStorageAccess implements DomainDataStorageAccess {
+
+    private final Cache<Object, Object> cache;
+
+    CaffeineStorageAccess(Cache<Object, Object> cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+        return cache.getIfPresent(key);
+    }
+
+    @Override
+    public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+        if (value == null) {
+            cache.invalidate(key);
+        } else if (!ReadWriteRoutingDataSource.isReadingReplica()) {
+            cache.put(key, value);
+        }
+    }
+
+    @Override
+    public boolean contains(Object key) {
+        return cache.asMap().containsKey(key);
+    }
+
+    @Override
+    public void evictData() {
+        cache.invalidateAll();
+    }
+
+    @Override
+    public void evictData(Object key) {
+        cache.invalidate(key);
+    }
+
+    @Override
+    public void release() {
+        cache.invalidateAll();
+        cache.cleanUp();
+    }
+}
@@ -0,0 +1,75 @@
+package com.unbound.backend.config;
+
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    // Jakarta Mail's SMTP transport sends inside synchronized methods, which pin a virtual
+    // thread's carrier until JDK 24 (JEP 491); before that notifications stay on platform threads.
+    private static final int UNPINNED_SYNCHRONIZED_FEATURE_VERSION = 24;
+
+    // SMTP and other notification I/O, kept off request threads and out of transactions.
+    // When the queue is full the publishing thread sends the mail itself rather than dropping it.
+    @Bean(name = "notificationExecutor")
+    public Executor notificationExecutor(@Value("${app.notifications.pool-size:4}") int poolSize,
+                                         @Value("${app.notifications.queue-capacity:1000}") int queueCapacity,
+                                         @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        if (virtualThreads && Runtime.version().feature() >= UNPINNED_SYNCHRONIZED_FEATURE_VERSION) {
+            // One virtual thread per mail; the limit caps concurrent SMTP sessions and
+            // blocks the publisher beyond it, like caller-runs does for the pool
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("notify-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(poolSize);
+            executor.setTaskTerminationTimeout(30_000);
+            executor.setTaskDecorator(AsyncConfig::withCallerMdc);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("notify-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setTaskDecorator(AsyncConfig::withCallerMdc);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    // Carries the submitting request's MDC (request id) onto the worker thread. Restores
+    // rather than clears afterwards, since caller-runs executes on the request thread itself.
+    private static Runnable withCallerMdc(Runnable task) {
+        Map<String, String> callerContext = MDC.getCopyOfContextMap();
+        return () -> {
+            Map<String, String> previous = MDC.getCopyOfContextMap();
+            setContext(callerContext);
+            try {
+                task.run();
+            } finally {
+                setContext(previous);
+            }
+        };
+    }
+
+    private static void setContext(Map<String, String> context) {
+        if (context != null) {
+            MDC.setContextMap(context);
+        } else {
+            MDC.clear();
+        }
+    }
+}
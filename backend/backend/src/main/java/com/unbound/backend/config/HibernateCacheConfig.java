@@ -0,0 +1,35 @@
+package com.unbound.backend.config;
+
+import com.unbound.backend.cache.CaffeineRegionFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Second-level cache for the reference entities (College, Fest, Club) and the
+ * query cache. Hibernate keeps regions in step with its own writes, including
+ * JPQL bulk updates, which evict the whole affected region. Regions are local to
+ * the node and writes on other nodes never reach them, so the TTLs are kept to
+ * seconds: they are the staleness bound across the cluster.
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(MeterRegistry meterRegistry,
+            @Value("${app.cache.hibernate.entity-ttl:30s}") Duration entityTtl,
+            @Value("${app.cache.hibernate.query-ttl:30s}") Duration queryTtl,
+            @Value("${app.cache.hibernate.max-size:10000}") long maxSize) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY,
+                    new CaffeineRegionFactory(meterRegistry, entityTtl, queryTtl, maxSize));
+        };
+    }
+}
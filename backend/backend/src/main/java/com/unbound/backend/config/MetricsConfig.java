@@ -0,0 +1,38 @@
+package com.unbound.backend.config;
+
+import com.unbound.backend.metrics.StatementCountingDataSource;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class MetricsConfig {
+
+    // Enables @Timed on service methods; timers get class, method and exception tags
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    // Wraps only the application-facing "dataSource" bean, so with a read replica the
+    // routing proxy is counted once rather than once per underlying pool
+    @Bean
+    public static BeanPostProcessor statementCountingDataSourcePostProcessor(Environment environment) {
+        boolean enabled = environment.getProperty("app.sql-stats.enabled", Boolean.class, true);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (enabled && "dataSource".equals(beanName) && bean instanceof DataSource dataSource
+                        && !(bean instanceof StatementCountingDataSource)) {
+                    return new StatementCountingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
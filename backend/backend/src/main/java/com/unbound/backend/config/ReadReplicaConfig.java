@@ -0,0 +1,81 @@
+package com.unbound.backend.config;
+
+import com.unbound.backend.datasource.ReadWriteRoutingDataSource;
+import com.unbound.backend.datasource.ReadYourWritesTracker;
+import com.unbound.backend.datasource.ReplicaLagMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Primary/replica split, active only when app.datasource.replica.url is set.
+ * Without it Boot's single auto-configured pool is used unchanged.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replica.url")
+public class ReadReplicaConfig {
+
+    // Treats "no measurable lag" as caught up; on a primary (no WAL receiver) both LSNs are NULL -> 0
+    private static final String POSTGRES_LAG_QUERY =
+            "SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+                    + "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END";
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties,
+            @Value("${app.datasource.replica.url}") String url,
+            @Value("${app.datasource.replica.username:${spring.datasource.username:}}") String username,
+            @Value("${app.datasource.replica.password:${spring.datasource.password:}}") String password) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replica,
+            MeterRegistry meterRegistry,
+            @Value("${app.datasource.replica.lag-query:}") String lagQuery,
+            @Value("${app.datasource.replica.max-lag:5s}") Duration maxLag) {
+        return new ReplicaLagMonitor(replica, lagQuery.isBlank() ? POSTGRES_LAG_QUERY : lagQuery, maxLag, meterRegistry);
+    }
+
+    // The window never drops below max-lag, so a replica we still route to has always seen the user's write
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+            @Qualifier("replicaDataSource") DataSource replica,
+            ReplicaLagMonitor replicaLagMonitor,
+            @Value("${app.datasource.replica.read-your-writes-window:5s}") Duration window,
+            @Value("${app.datasource.replica.max-lag:5s}") Duration maxLag) {
+        Duration effectiveWindow = window.compareTo(maxLag) >= 0 ? window : maxLag;
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(effectiveWindow, 100_000);
+        return ReadWriteRoutingDataSource.lazy(
+                new ReadWriteRoutingDataSource(primary, replica, tracker, replicaLagMonitor::isUsable));
+    }
+}
@@ -1,9 +1,15 @@
 package com.unbound.backend.config;
 
+import com.unbound.backend.ratelimit.RateLimitFilter;
 import com.unbound.backend.security.JwtFilter;
+import com.unbound.backend.security.PooledPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
@@ -14,11 +20,12 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.time.Duration;
+
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity
@@ -26,7 +33,9 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
     private final JwtFilter jwtFilter;
+    private final RateLimitFilter rateLimitFilter;
     private final UserDetailsService userDetailsService;
+    private final Environment environment;
 
     private static final String[] PUBLIC_URLS = {
             "/api/auth/**",
@@ -35,29 +44,45 @@ public class SecurityConfig {
             "/api-docs/**",
             "/api-docs",
             "/v3/api-docs/**",
-            "/v3/api-docs"
+            "/v3/api-docs",
+            "/actuator/health"
     };
 
+    // Metrics are internal: the scrape is only open on the separate management port
+    private static final String PROMETHEUS_URL = "/actuator/prometheus";
+
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http,
+            AuthenticationProvider authenticationProvider) throws Exception {
         http
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(PUBLIC_URLS).permitAll()
+                        .requestMatchers(request -> onManagementPort(request)
+                                && PROMETHEUS_URL.equals(request.getRequestURI())).permitAll()
+                        // Rate limit keys and metric tags name client IPs and user ids
+                        .requestMatchers("/actuator/**").hasRole("SUPER_ADMIN")
                         .anyRequest().authenticated())
                 .sessionManagement(session -> session
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
-                .authenticationProvider(authenticationProvider())
-                .addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class);
+                .authenticationProvider(authenticationProvider)
+                .addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(rateLimitFilter, JwtFilter.class);
 
         return http.build();
     }
 
+    // Set by Boot once the management server listens on a port of its own
+    private boolean onManagementPort(HttpServletRequest request) {
+        Integer managementPort = environment.getProperty("local.management.port", Integer.class);
+        return managementPort != null && request.getLocalPort() == managementPort;
+    }
+
     @Bean
-    public AuthenticationProvider authenticationProvider() {
+    public AuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
         provider.setUserDetailsService(userDetailsService);
-        provider.setPasswordEncoder(passwordEncoder());
+        provider.setPasswordEncoder(passwordEncoder);
         return provider;
     }
 
@@ -66,8 +91,14 @@ public class SecurityConfig {
         return config.getAuthenticationManager();
     }
 
+    // BCrypt runs on its own bounded pool — see PooledPasswordEncoder
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry,
+            @Value("${app.security.bcrypt.strength:10}") int strength,
+            @Value("${app.security.bcrypt.pool-size:0}") int poolSize,
+            @Value("${app.security.bcrypt.queue-capacity:64}") int queueCapacity,
+            @Value("${app.security.bcrypt.wait-timeout:5s}") Duration waitTimeout,
+            @Value("${app.security.bcrypt.max-hash-time:250ms}") Duration maxHashTime) {
+        return new PooledPasswordEncoder(strength, poolSize, queueCapacity, waitTimeout, maxHashTime, meterRegistry);
     }
 }
@@ -7,8 +7,10 @@ import com.unbound.backend.dto.response.ApiResponse;
 import com.unbound.backend.dto.response.BulkActionResponse;
 import com.unbound.backend.dto.response.ClubResponse;
 import com.unbound.backend.dto.response.ClubStatisticsResponse;
+import com.unbound.backend.dto.response.SuggestionResponse;
 import com.unbound.backend.enums.ClubStatus;
 import com.unbound.backend.service.ClubService;
+import com.unbound.backend.service.SuggestionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -29,6 +31,7 @@ import java.util.List;
 public class ClubController {
 
     private final ClubService clubService;
+    private final SuggestionService suggestionService;
 
     // CLUB_ADMIN only
     @PostMapping
@@ -54,6 +57,15 @@ public class ClubController {
         return ResponseEntity.ok(ApiResponse.success("Clubs fetched", clubService.getAllApprovedClubs()));
     }
 
+    @GetMapping("/suggest")
+    @Operation(summary = "Type-ahead search over approved club names")
+    public ResponseEntity<ApiResponse<List<SuggestionResponse>>> suggestClubs(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(ApiResponse.success("Suggestions fetched",
+                suggestionService.suggestClubs(prefix, limit)));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get club by ID")
     public ResponseEntity<ApiResponse<ClubResponse>> getClubById(@PathVariable Long id) {
@@ -88,8 +100,9 @@ public class ClubController {
     @GetMapping("/admin/statistics")
     @Operation(summary = "Get club statistics (Admin only)")
     @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'COLLEGE_ADMIN')")
-    public ResponseEntity<ApiResponse<ClubStatisticsResponse>> getClubStatistics() {
-        return ResponseEntity.ok(ApiResponse.success("Statistics fetched", clubService.getClubStatistics()));
+    public ResponseEntity<ApiResponse<ClubStatisticsResponse>> getClubStatistics(
+            @RequestParam(required = false) Long collegeId) {
+        return ResponseEntity.ok(ApiResponse.success("Statistics fetched", clubService.getClubStatistics(collegeId)));
     }
 
     @PatchMapping("/{id}/approve")
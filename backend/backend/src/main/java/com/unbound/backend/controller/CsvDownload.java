@@ -0,0 +1,23 @@
+package com.unbound.backend.controller;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+// Response setup shared by the *.csv export endpoints
+final class CsvDownload {
+
+    private CsvDownload() {
+    }
+
+    static Writer open(HttpServletResponse response, String filename) throws IOException {
+        response.setContentType("text/csv;charset=UTF-8");
+        response.setHeader("Content-Disposition", "attachment; filename=\"" + filename + "\"");
+        response.setHeader("Cache-Control", "no-store");
+        return new BufferedWriter(new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8), 16 * 1024);
+    }
+}
@@ -3,7 +3,9 @@ package com.unbound.backend.controller;
 import com.unbound.backend.dto.request.EventRequest;
 import com.unbound.backend.dto.response.ApiResponse;
 import com.unbound.backend.dto.response.EventResponse;
+import com.unbound.backend.dto.response.SuggestionResponse;
 import com.unbound.backend.service.EventService;
+import com.unbound.backend.service.SuggestionService;
 import com.unbound.backend.enums.EventCategory;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -27,6 +29,7 @@ import java.util.List;
 public class EventController {
 
     private final EventService eventService;
+    private final SuggestionService suggestionService;
 
     // CLUB_ADMIN, COLLEGE_ADMIN, SUPER_ADMIN
     @PostMapping
@@ -87,6 +90,15 @@ public class EventController {
         return ResponseEntity.ok(ApiResponse.success("All events fetched", eventService.getAllEventsForAdmin()));
     }
 
+    @GetMapping("/suggest")
+    @Operation(summary = "Type-ahead search over published event titles")
+    public ResponseEntity<ApiResponse<List<SuggestionResponse>>> suggestEvents(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(ApiResponse.success("Suggestions fetched",
+                suggestionService.suggestEvents(prefix, limit)));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get event by ID")
     public ResponseEntity<ApiResponse<EventResponse>> getEventById(@PathVariable Long id) {
@@ -2,6 +2,7 @@ package com.unbound.backend.controller;
 
 import com.unbound.backend.dto.request.FestRequest;
 import com.unbound.backend.dto.response.ApiResponse;
+import com.unbound.backend.dto.response.FestOverviewResponse;
 import com.unbound.backend.dto.response.FestResponse;
 import com.unbound.backend.service.FestService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -63,6 +64,12 @@ public class FestController {
         return ResponseEntity.ok(ApiResponse.success("Fest fetched", festService.getFestById(id)));
     }
 
+    @GetMapping("/{id}/overview")
+    @Operation(summary = "Get a fest with its published events, seat counts and clubs in one call")
+    public ResponseEntity<ApiResponse<FestOverviewResponse>> getFestOverview(@PathVariable Long id) {
+        return ResponseEntity.ok(ApiResponse.success("Fest overview fetched", festService.getFestOverview(id)));
+    }
+
     @GetMapping("/college/{collegeId}")
     @Operation(summary = "Get all fests by college")
     public ResponseEntity<ApiResponse<List<FestResponse>>> getFestsByCollege(@PathVariable Long collegeId) {
@@ -7,10 +7,12 @@ import com.unbound.backend.dto.response.PaymentResponse;
 import com.unbound.backend.dto.response.PaymentStatisticsResponse;
 import com.unbound.backend.dto.response.UserPaymentSummaryResponse;
 import com.unbound.backend.enums.PaymentStatus;
+import com.unbound.backend.service.CsvExportService;
 import com.unbound.backend.service.PaymentService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
@@ -30,6 +32,7 @@ import java.util.List;
 public class PaymentController {
 
     private final PaymentService paymentService;
+    private final CsvExportService csvExportService;
 
     // ─── Payment Processing ──────────────────────────────────────────────────────
 
@@ -135,4 +138,18 @@ public class PaymentController {
         return ResponseEntity.ok(ApiResponse.success("Filtered payments fetched", 
                 paymentService.filterPayments(userId, eventId, status, startDate, endDate)));
     }
+
+    @GetMapping("/admin/export.csv")
+    @Operation(summary = "Export payments as CSV (Admin)", description = "Same filters as /admin/filter, streamed")
+    @PreAuthorize("hasAnyRole('COLLEGE_ADMIN', 'SUPER_ADMIN')")
+    public void exportPayments(
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) Long eventId,
+            @RequestParam(required = false) PaymentStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            HttpServletResponse response) {
+        csvExportService.exportPayments(userId, eventId, status, startDate, endDate,
+                () -> CsvDownload.open(response, "payments.csv"));
+    }
 }
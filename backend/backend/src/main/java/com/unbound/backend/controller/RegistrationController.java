@@ -2,10 +2,12 @@ package com.unbound.backend.controller;
 
 import com.unbound.backend.dto.response.ApiResponse;
 import com.unbound.backend.dto.response.RegistrationResponse;
+import com.unbound.backend.service.CsvExportService;
 import com.unbound.backend.service.RegistrationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -22,6 +24,7 @@ import java.util.List;
 public class RegistrationController {
 
     private final RegistrationService registrationService;
+    private final CsvExportService csvExportService;
 
     // Any authenticated user — register for event
     @PostMapping("/{eventId}")
@@ -54,6 +57,15 @@ public class RegistrationController {
         return ResponseEntity.ok(ApiResponse.success("Registrations fetched", registrationService.getRegistrationsByEvent(eventId)));
     }
 
+    // Admin only — attendee list as CSV, streamed rather than built in memory
+    @GetMapping("/event/{eventId}/export.csv")
+    @Operation(summary = "Export all registrations for an event as CSV (Admin only)")
+    @PreAuthorize("hasAnyRole('CLUB_ADMIN', 'COLLEGE_ADMIN', 'SUPER_ADMIN')")
+    public void exportByEvent(@PathVariable Long eventId, HttpServletResponse response) {
+        csvExportService.exportEventRegistrations(eventId,
+                () -> CsvDownload.open(response, "event-" + eventId + "-registrations.csv"));
+    }
+
     // Any authenticated user — registration count for capacity bar
     @GetMapping("/event/{eventId}/count")
     @Operation(summary = "Get registration count for an event")
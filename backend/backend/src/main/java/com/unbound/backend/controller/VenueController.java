@@ -0,0 +1,35 @@
+package com.unbound.backend.controller;
+
+import com.unbound.backend.dto.response.ApiResponse;
+import com.unbound.backend.dto.response.VenueAvailabilityResponse;
+import com.unbound.backend.service.VenueService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/api/venues")
+@RequiredArgsConstructor
+@Tag(name = "Venues", description = "Venue availability endpoints")
+@SecurityRequirement(name = "bearerAuth")
+public class VenueController {
+
+    private final VenueService venueService;
+
+    // Any authenticated user
+    @GetMapping("/{venue}/availability")
+    @Operation(summary = "Get bookings and free slots for a venue over a date range")
+    public ResponseEntity<ApiResponse<VenueAvailabilityResponse>> getAvailability(
+            @PathVariable String venue,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return ResponseEntity.ok(ApiResponse.success("Venue availability fetched",
+                venueService.getAvailability(venue, from, to)));
+    }
+}
@@ -0,0 +1,57 @@
+package com.unbound.backend.datagen;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * One prepared INSERT fed row by row, flushed and committed every batchSize rows so
+ * the generator never holds more than a batch in memory.
+ */
+class BatchWriter implements AutoCloseable {
+
+    private final Connection connection;
+    private final PreparedStatement statement;
+    private final int batchSize;
+    private int pending;
+    private long written;
+
+    BatchWriter(Connection connection, String sql, int batchSize) throws SQLException {
+        this.connection = connection;
+        this.statement = connection.prepareStatement(sql);
+        this.batchSize = batchSize;
+    }
+
+    void add(Object... values) throws SQLException {
+        for (int i = 0; i < values.length; i++) {
+            statement.setObject(i + 1, values[i]);
+        }
+        statement.addBatch();
+        if (++pending == batchSize) {
+            flush();
+        }
+    }
+
+    void flush() throws SQLException {
+        if (pending == 0) {
+            return;
+        }
+        statement.executeBatch();
+        connection.commit();
+        written += pending;
+        pending = 0;
+    }
+
+    long written() {
+        return written;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try {
+            flush();
+        } finally {
+            statement.close();
+        }
+    }
+}
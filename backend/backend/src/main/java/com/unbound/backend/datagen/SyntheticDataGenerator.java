@@ -0,0 +1,482 @@
+package com.unbound.backend.datagen;
+
+import com.unbound.backend.enums.ClubStatus;
+import com.unbound.backend.enums.EventCategory;
+import com.unbound.backend.enums.EventStatus;
+import com.unbound.backend.enums.PaymentStatus;
+import com.unbound.backend.enums.RegistrationStatus;
+import com.unbound.backend.enums.Role;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Bulk-loads a production-sized dataset (--spring.profiles.active=datagen), then exits.
+ * Same seed and anchor date, same rows (BCrypt salts in the shared password hash aside).
+ * <p>
+ * Shapes worth reproducing: event popularity is Zipf-distributed, so a few events hold
+ * a large share of all registrations. Payment attempts are mostly successful with a tail
+ * of failed and abandoned ones. Event dates span app.datagen.years back from the anchor
+ * plus six months ahead. Past events stay PUBLISHED, as they do in production today.
+ * <p>
+ * Rows go in through batched JDBC with explicit ids. Afterwards the id sequences are moved
+ * past them so the application keeps allocating from there.
+ */
+@Component
+@Profile("datagen")
+@Slf4j
+public class SyntheticDataGenerator implements CommandLineRunner {
+
+    private static final String[] TABLES =
+            {"colleges", "users", "clubs", "fests", "events", "registrations", "payments"};
+    private static final String[] CITIES =
+            {"Pune", "Mumbai", "Bengaluru", "Delhi", "Chennai", "Hyderabad", "Kolkata", "Jaipur", "Indore", "Kochi"};
+    private static final String[] DEPARTMENTS =
+            {"Computer Science", "Electronics", "Mechanical", "Civil", "Chemical", "Biotech", "Commerce", "Arts"};
+    private static final String[] CLUB_CATEGORIES = {"TECHNICAL", "CULTURAL", "SPORTS", "LITERARY", "SOCIAL"};
+    private static final String[] VENUES =
+            {"Main Auditorium", "Seminar Hall", "Open Air Theatre", "Lab Complex", "Sports Ground", "Library Hall"};
+    private static final String[] FAILURE_REASONS =
+            {"Payment declined by bank", "Card authentication failed", "UPI request expired", "Insufficient funds"};
+    private static final int[] CAPACITIES = {30, 50, 60, 100, 150, 200, 300, 500, 1000};
+    private static final double[] FEES = {50, 100, 150, 200, 250, 300, 500, 1000};
+
+    private final DataSource dataSource;
+    private final PasswordEncoder passwordEncoder;
+    private final ConfigurableApplicationContext context;
+    private final long seed;
+    private final LocalDate anchor;
+    private final int colleges;
+    private final int users;
+    private final int clubs;
+    private final int fests;
+    private final int events;
+    private final long registrations;
+    private final int years;
+    private final double popularitySkew;
+    private final int batchSize;
+
+    public SyntheticDataGenerator(DataSource dataSource,
+            PasswordEncoder passwordEncoder,
+            ConfigurableApplicationContext context,
+            @Value("${app.datagen.seed:42}") long seed,
+            @Value("${app.datagen.anchor-date:}") String anchorDate,
+            @Value("${app.datagen.colleges:200}") int colleges,
+            @Value("${app.datagen.users:200000}") int users,
+            @Value("${app.datagen.clubs:2000}") int clubs,
+            @Value("${app.datagen.fests:1000}") int fests,
+            @Value("${app.datagen.events:20000}") int events,
+            @Value("${app.datagen.registrations:5000000}") long registrations,
+            @Value("${app.datagen.years:3}") int years,
+            @Value("${app.datagen.popularity-skew:1.0}") double popularitySkew,
+            @Value("${app.datagen.batch-size:5000}") int batchSize) {
+        if (clubs >= users) {
+            throw new IllegalArgumentException("app.datagen.users must exceed app.datagen.clubs (one owner per club)");
+        }
+        this.dataSource = dataSource;
+        this.passwordEncoder = passwordEncoder;
+        this.context = context;
+        this.seed = seed;
+        this.anchor = anchorDate.isBlank() ? LocalDate.now() : LocalDate.parse(anchorDate);
+        this.colleges = colleges;
+        this.users = users;
+        this.clubs = clubs;
+        this.fests = fests;
+        this.events = events;
+        this.registrations = registrations;
+        this.years = years;
+        this.popularitySkew = popularitySkew;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void run(String... args) throws Exception {
+        generate();
+        System.exit(SpringApplication.exit(context, () -> 0));
+    }
+
+    public void generate() throws SQLException {
+        log.info("Generating synthetic data: seed={}, anchor={}, users={}, events={}, registrations={}",
+                seed, anchor, users, events, registrations);
+        long started = System.nanoTime();
+        SplittableRandom random = new SplittableRandom(seed);
+
+        try (Connection connection = dataSource.getConnection()) {
+            requireEmpty(connection);
+            connection.setAutoCommit(false);
+
+            int[] userCollege = insertUsersAndColleges(connection, random);
+            int[] clubCollege = new int[clubs + 1];
+            List<Integer> approvedClubs = insertClubs(connection, random, userCollege, clubCollege);
+            int[][] festsByCollege = new int[colleges + 1][];
+            LocalDate[] festStart = insertFests(connection, random, festsByCollege);
+            EventPlan plan = planEvents(random, approvedClubs, clubCollege, festsByCollege, festStart);
+            insertEvents(connection, random, plan);
+            insertRegistrationsAndPayments(connection, random, plan);
+            bumpSequences(connection);
+        }
+
+        log.info("Synthetic data loaded in {} s", (System.nanoTime() - started) / 1_000_000_000);
+    }
+
+    private void requireEmpty(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM users")) {
+            rs.next();
+            if (rs.getLong(1) > 0) {
+                throw new IllegalStateException("datagen needs an empty database; users already has "
+                        + rs.getLong(1) + " rows");
+            }
+        }
+    }
+
+    // ─── Users and colleges ─────────────────────────────────────────────────────
+
+    // Users 1..clubs are the club owners (CLUB_ADMIN), the rest are students
+    private int[] insertUsersAndColleges(Connection connection, SplittableRandom random) throws SQLException {
+        LocalDateTime start = anchor.minusYears(years).atStartOfDay();
+        try (BatchWriter writer = new BatchWriter(connection,
+                "INSERT INTO colleges (id, name, location, description, created_at) VALUES (?, ?, ?, ?, ?)",
+                batchSize)) {
+            for (int id = 1; id <= colleges; id++) {
+                String city = CITIES[random.nextInt(CITIES.length)];
+                writer.add(id, "College " + id + " " + city, city, null, start);
+            }
+        }
+
+        // Every generated account logs in with the password "password"
+        String passwordHash = passwordEncoder.encode("password");
+        int[] userCollege = new int[users + 1];
+        try (BatchWriter writer = new BatchWriter(connection,
+                "INSERT INTO users (id, name, email, phone, password, role, college_id, department, is_active, "
+                        + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                batchSize)) {
+            for (int id = 1; id <= users; id++) {
+                Role role = id <= clubs ? Role.CLUB_ADMIN : Role.STUDENT;
+                userCollege[id] = 1 + random.nextInt(colleges);
+                LocalDateTime createdAt = randomTime(random, start, anchor.atStartOfDay());
+                writer.add(id, "User " + id, "user" + id + "@datagen.unbound.dev", null, passwordHash,
+                        role.name(), userCollege[id], DEPARTMENTS[random.nextInt(DEPARTMENTS.length)],
+                        random.nextInt(100) < 98, createdAt, createdAt);
+            }
+            log.info("Inserted {} colleges and {} users", colleges, users);
+        }
+        return userCollege;
+    }
+
+    // ─── Clubs and fests ────────────────────────────────────────────────────────
+
+    private List<Integer> insertClubs(Connection connection, SplittableRandom random,
+                                      int[] userCollege, int[] clubCollege) throws SQLException {
+        List<Integer> approved = new ArrayList<>(clubs);
+        LocalDateTime start = anchor.minusYears(years).atStartOfDay();
+        try (BatchWriter writer = new BatchWriter(connection,
+                "INSERT INTO clubs (id, name, description, logo_url, category, contact_email, college_id, status, "
+                        + "created_by, rejection_reason, is_active, created_at, updated_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                batchSize)) {
+            for (int id = 1; id <= clubs; id++) {
+                int roll = random.nextInt(100);
+                ClubStatus status = roll < 85 ? ClubStatus.APPROVED : roll < 95 ? ClubStatus.PENDING : ClubStatus.REJECTED;
+                if (status == ClubStatus.APPROVED) {
+                    approved.add(id);
+                }
+                clubCollege[id] = userCollege[id];
+                LocalDateTime createdAt = randomTime(random, start, anchor.atStartOfDay());
+                writer.add(id, "Club " + id, "Generated club " + id, null,
+                        CLUB_CATEGORIES[random.nextInt(CLUB_CATEGORIES.length)], "club" + id + "@datagen.unbound.dev",
+                        clubCollege[id], status.name(), id,
+                        status == ClubStatus.REJECTED ? "Incomplete club charter" : null, true, createdAt, createdAt);
+            }
+        }
+        if (approved.isEmpty()) {
+            throw new IllegalStateException("No approved clubs generated; raise app.datagen.clubs");
+        }
+        log.info("Inserted {} clubs ({} approved)", clubs, approved.size());
+        return approved;
+    }
+
+    private LocalDate[] insertFests(Connection connection, SplittableRandom random,
+                                    int[][] festsByCollege) throws SQLException {
+        LocalDate[] festStart = new LocalDate[fests + 1];
+        List<List<Integer>> byCollege = new ArrayList<>(colleges + 1);
+        for (int i = 0; i <= colleges; i++) {
+            byCollege.add(new ArrayList<>());
+        }
+        LocalDateTime from = anchor.minusYears(years).atStartOfDay();
+        LocalDateTime to = anchor.plusMonths(6).atStartOfDay();
+        try (BatchWriter writer = new BatchWriter(connection,
+                "INSERT INTO fests (id, name, description, banner_url, start_date, end_date, college_id, created_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                batchSize)) {
+            for (int id = 1; id <= fests; id++) {
+                int college = 1 + random.nextInt(colleges);
+                festStart[id] = randomTime(random, from, to).toLocalDate();
+                byCollege.get(college).add(id);
+                writer.add(id, "Fest " + id, null, null, festStart[id], festStart[id].plusDays(2), college,
+                        festStart[id].minusMonths(2).atStartOfDay());
+            }
+        }
+        for (int college = 0; college <= colleges; college++) {
+            festsByCollege[college] = byCollege.get(college).stream().mapToInt(Integer::intValue).toArray();
+        }
+        log.info("Inserted {} fests", fests);
+        return festStart;
+    }
+
+    // ─── Events ─────────────────────────────────────────────────────────────────
+
+    // Everything decided per event before any row is written: the registration target
+    // has to be known up front so maxParticipants can cover it
+    private static final class EventPlan {
+        final int[] club;
+        final int[] fest;
+        final LocalDateTime[] date;
+        final EventStatus[] status;
+        final double[] fee;
+        final int[] capacity;
+        final int[] target;
+
+        EventPlan(int events) {
+            club = new int[events + 1];
+            fest = new int[events + 1];
+            date = new LocalDateTime[events + 1];
+            status = new EventStatus[events + 1];
+            fee = new double[events + 1];
+            capacity = new int[events + 1];
+            target = new int[events + 1];
+        }
+    }
+
+    private EventPlan planEvents(SplittableRandom random, List<Integer> approvedClubs, int[] clubCollege,
+                                 int[][] festsByCollege, LocalDate[] festStart) {
+        EventPlan plan = new EventPlan(events);
+        LocalDateTime from = anchor.minusYears(years).atStartOfDay();
+        LocalDateTime to = anchor.plusMonths(6).atStartOfDay();
+        LocalDateTime now = anchor.atStartOfDay();
+
+        List<Integer> open = new ArrayList<>(events);
+        for (int id = 1; id <= events; id++) {
+            plan.club[id] = approvedClubs.get(random.nextInt(approvedClubs.size()));
+            int[] collegeFests = festsByCollege[clubCollege[plan.club[id]]];
+            if (collegeFests.length > 0 && random.nextInt(100) < 35) {
+                plan.fest[id] = collegeFests[random.nextInt(collegeFests.length)];
+                plan.date[id] = festStart[plan.fest[id]].atTime(9 + random.nextInt(10), 0)
+                        .plusDays(random.nextInt(3));
+            } else {
+                plan.date[id] = randomTime(random, from, to).withHour(9 + random.nextInt(10)).withMinute(0);
+            }
+
+            int roll = random.nextInt(100);
+            if (plan.date[id].isAfter(now) && roll < 10) {
+                plan.status[id] = EventStatus.DRAFT;
+            } else if (roll >= 96) {
+                plan.status[id] = EventStatus.CANCELLED;
+            } else {
+                plan.status[id] = EventStatus.PUBLISHED;
+            }
+            plan.fee[id] = random.nextInt(100) < 35 ? FEES[random.nextInt(FEES.length)] : 0;
+            plan.capacity[id] = CAPACITIES[random.nextInt(CAPACITIES.length)];
+            if (plan.status[id] != EventStatus.DRAFT) {
+                open.add(id);
+            }
+        }
+
+        assignZipfTargets(random, plan, open);
+        for (int id = 1; id <= events; id++) {
+            plan.capacity[id] = Math.max(plan.capacity[id], plan.target[id]);
+        }
+        return plan;
+    }
+
+    // Registrations per event ∝ 1/rank^skew over a random ranking, capped at half the
+    // students; whatever the cap cuts off is handed to the uncapped events
+    private void assignZipfTargets(SplittableRandom random, EventPlan plan, List<Integer> open) {
+        int n = open.size();
+        if (n == 0) {
+            return;
+        }
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            Integer swap = open.get(i);
+            open.set(i, open.get(j));
+            open.set(j, swap);
+        }
+
+        int cap = (users - clubs) / 2;
+        double[] weight = new double[n];
+        for (int rank = 0; rank < n; rank++) {
+            weight[rank] = 1.0 / Math.pow(rank + 1, popularitySkew);
+        }
+        boolean[] capped = new boolean[n];
+        double remaining = Math.min(registrations, (long) cap * n);
+        for (int round = 0; round < 20 && remaining >= 1; round++) {
+            double freeWeight = 0;
+            for (int rank = 0; rank < n; rank++) {
+                if (!capped[rank]) {
+                    freeWeight += weight[rank];
+                }
+            }
+            double overflow = 0;
+            for (int rank = 0; rank < n; rank++) {
+                if (capped[rank]) {
+                    continue;
+                }
+                int id = open.get(rank);
+                double share = remaining * weight[rank] / freeWeight;
+                double total = plan.target[id] + share;
+                if (total >= cap) {
+                    overflow += total - cap;
+                    plan.target[id] = cap;
+                    capped[rank] = true;
+                } else {
+                    plan.target[id] = (int) total;
+                    overflow += total - (int) total;
+                }
+            }
+            remaining = overflow;
+        }
+    }
+
+    private void insertEvents(Connection connection, SplittableRandom random, EventPlan plan) throws SQLException {
+        try (BatchWriter writer = new BatchWriter(connection,
+                "INSERT INTO events (id, title, description, banner_url, venue, fee_amount, event_date, "
+                        + "duration_minutes, max_participants, category, status, fest_id, club_id, created_at, "
+                        + "updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                batchSize)) {
+            EventCategory[] categories = EventCategory.values();
+            for (int id = 1; id <= events; id++) {
+                EventCategory category = categories[random.nextInt(categories.length)];
+                LocalDateTime createdAt = plan.date[id].minusDays(30 + random.nextInt(60));
+                writer.add(id, category.name().charAt(0) + category.name().substring(1).toLowerCase() + " Event " + id,
+                        null, null, VENUES[random.nextInt(VENUES.length)], plan.fee[id], plan.date[id],
+                        60 * (1 + random.nextInt(4)), plan.capacity[id], category.name(), plan.status[id].name(),
+                        plan.fest[id] == 0 ? null : plan.fest[id], plan.club[id], createdAt, createdAt);
+            }
+        }
+        log.info("Inserted {} events", events);
+    }
+
+    // ─── Registrations and payments ─────────────────────────────────────────────
+
+    private void insertRegistrationsAndPayments(Connection connection, SplittableRandom random,
+                                                EventPlan plan) throws SQLException {
+        int students = users - clubs;
+        LocalDateTime now = anchor.atStartOfDay();
+        long registrationId = 0;
+        long paymentId = 0;
+
+        try (BatchWriter registrationWriter = new BatchWriter(connection,
+                "INSERT INTO registrations (id, user_id, event_id, status, registration_date) VALUES (?, ?, ?, ?, ?)",
+                batchSize);
+             BatchWriter paymentWriter = new BatchWriter(connection,
+                "INSERT INTO payments (id, user_id, event_id, amount, razorpay_order_id, razorpay_payment_id, "
+                        + "razorpay_signature, status, failure_reason, created_at, updated_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                batchSize)) {
+            for (int eventId = 1; eventId <= events; eventId++) {
+                int target = plan.target[eventId];
+                if (target == 0) {
+                    continue;
+                }
+                // start + k*step (mod students) with step coprime to students visits each student
+                // at most once, so (user, event) stays unique without a seen-set
+                long start = random.nextInt(students);
+                long step = 1 + random.nextInt(Math.max(1, students - 1));
+                while (gcd(step, students) != 1) {
+                    step++;
+                }
+                for (int k = 0; k < target; k++) {
+                    long userId = clubs + 1 + (start + k * step) % students;
+                    LocalDateTime registeredAt = plan.date[eventId].minusMinutes(60 + random.nextInt(45 * 24 * 60));
+                    if (registeredAt.isAfter(now)) {
+                        registeredAt = now.minusMinutes(random.nextInt(7 * 24 * 60));
+                    }
+                    RegistrationStatus status = random.nextInt(100) < 7
+                            ? RegistrationStatus.CANCELLED : RegistrationStatus.CONFIRMED;
+                    registrationWriter.add(++registrationId, userId, eventId, status.name(), registeredAt);
+
+                    if (plan.fee[eventId] > 0) {
+                        // Earlier failed or abandoned attempts, then the one that went through
+                        int roll = random.nextInt(100);
+                        if (roll < 10) {
+                            addPayment(paymentWriter, ++paymentId, userId, eventId, plan.fee[eventId],
+                                    PaymentStatus.FAILED, FAILURE_REASONS[random.nextInt(FAILURE_REASONS.length)],
+                                    registeredAt.minusMinutes(5));
+                        } else if (roll < 13) {
+                            addPayment(paymentWriter, ++paymentId, userId, eventId, plan.fee[eventId],
+                                    PaymentStatus.PENDING, null, registeredAt.minusMinutes(30));
+                        }
+                        addPayment(paymentWriter, ++paymentId, userId, eventId, plan.fee[eventId],
+                                status == RegistrationStatus.CANCELLED ? PaymentStatus.REFUNDED : PaymentStatus.SUCCESS,
+                                null, registeredAt);
+                    }
+                }
+                if (eventId % 1000 == 0) {
+                    log.info("Registrations: {} events done, {} rows", eventId, registrationId);
+                }
+            }
+        }
+        log.info("Inserted {} registrations and {} payments", registrationId, paymentId);
+    }
+
+    private void addPayment(BatchWriter writer, long id, long userId, int eventId, double amount,
+                            PaymentStatus status, String failureReason, LocalDateTime createdAt) throws SQLException {
+        boolean captured = status == PaymentStatus.SUCCESS || status == PaymentStatus.REFUNDED;
+        writer.add(id, userId, eventId, amount, "order_dg" + id, captured ? "pay_dg" + id : null, null,
+                status.name(), failureReason, createdAt, createdAt);
+    }
+
+    // ─── Sequences ──────────────────────────────────────────────────────────────
+
+    // Same positioning as V4__id_sequences.sql: one allocation block (50) past MAX(id)
+    private void bumpSequences(Connection connection) throws SQLException {
+        boolean postgres = connection.getMetaData().getDatabaseProductName().toLowerCase().contains("postgres");
+        try (Statement statement = connection.createStatement()) {
+            for (String table : TABLES) {
+                long maxId;
+                try (ResultSet rs = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM " + table)) {
+                    rs.next();
+                    maxId = rs.getLong(1);
+                }
+                if (postgres) {
+                    statement.execute("SELECT setval('" + table + "_seq', " + (maxId + 50) + ")");
+                } else {
+                    statement.execute("ALTER SEQUENCE " + table + "_seq RESTART WITH " + (maxId + 50));
+                }
+            }
+        }
+        connection.commit();
+    }
+
+    private static LocalDateTime randomTime(SplittableRandom random, LocalDateTime from, LocalDateTime to) {
+        long minutes = Duration.between(from, to).toMinutes();
+        return from.plusMinutes(random.nextLong(Math.max(1, minutes)));
+    }
+
+    private static long gcd(long a, long b) {
+        while (b != 0) {
+            long t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+}
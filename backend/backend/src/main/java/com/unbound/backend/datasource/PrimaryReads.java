@@ -0,0 +1,39 @@
+package com.unbound.backend.datasource;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * Runs a read against the primary. Used to fill caches and snapshots that are
+ * shared across requests and tagged as current, where a replica row that lags
+ * a committed write would be served until the next invalidation.
+ *
+ * Inside a read-only transaction the work gets its own transaction, since the
+ * outer one may already hold a replica connection. A read-write transaction is
+ * joined as is; it is on the primary already.
+ */
+@Component
+public class PrimaryReads {
+
+    private final TransactionTemplate joining;
+    private final TransactionTemplate isolated;
+
+    public PrimaryReads(PlatformTransactionManager transactionManager) {
+        this.joining = new TransactionTemplate(transactionManager);
+        this.joining.setReadOnly(true);
+        this.isolated = new TransactionTemplate(transactionManager);
+        this.isolated.setReadOnly(true);
+        this.isolated.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public <T> T read(Supplier<T> work) {
+        TransactionTemplate template = TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                ? isolated : joining;
+        return ReadWriteRoutingDataSource.onPrimary(() -> template.execute(status -> work.get()));
+    }
+}
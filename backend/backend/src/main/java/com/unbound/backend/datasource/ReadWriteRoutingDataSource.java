@@ -0,0 +1,126 @@
+package com.unbound.backend.datasource;
+
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Sends {@code @Transactional(readOnly = true)} work to the replica and everything
+ * else to the primary. Must sit behind {@link #lazy} so the transaction's
+ * read-only flag is known by the time a connection is fetched.
+ *
+ * A principal that runs a read-write transaction is pinned to the primary for
+ * the read-your-writes window, and the replica is skipped entirely while the
+ * lag monitor reports it unusable. Work inside {@link #onPrimary} always reads the
+ * primary; cache and snapshot rebuilds use it so a lagging replica cannot seed
+ * them with stale rows.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Target { PRIMARY, REPLICA }
+
+    private static final ThreadLocal<Boolean> FORCE_PRIMARY = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> READING_REPLICA = new ThreadLocal<>();
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final BooleanSupplier replicaUsable;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica,
+            ReadYourWritesTracker readYourWritesTracker, BooleanSupplier replicaUsable) {
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.replicaUsable = replicaUsable;
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    /**
+     * Wraps the router so the target is picked at the first statement. The proxy's
+     * connection defaults are fixed up front; otherwise it fetches a real connection
+     * (routed before the read-only flag is set) just to discover them.
+     */
+    public static DataSource lazy(ReadWriteRoutingDataSource router) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy();
+        proxy.setTargetDataSource(router);
+        proxy.setDefaultAutoCommit(true);
+        proxy.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        proxy.afterPropertiesSet();
+        return proxy;
+    }
+
+    // Connections fetched by the work (on this thread) are routed to the primary
+    public static <T> T onPrimary(Supplier<T> work) {
+        Boolean previous = FORCE_PRIMARY.get();
+        FORCE_PRIMARY.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                FORCE_PRIMARY.remove();
+            } else {
+                FORCE_PRIMARY.set(previous);
+            }
+        }
+    }
+
+    // True while the current transaction reads from the replica; shared caches skip filling from it
+    public static boolean isReadingReplica() {
+        return READING_REPLICA.get() != null && FORCE_PRIMARY.get() == null;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String principal = currentPrincipal();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (principal != null) {
+                readYourWritesTracker.recordWrite(principal);
+                // Restart the window at commit so long transactions are covered too
+                if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            readYourWritesTracker.recordWrite(principal);
+                        }
+                    });
+                }
+            }
+            return Target.PRIMARY;
+        }
+
+        if (FORCE_PRIMARY.get() != null
+                || (principal != null && readYourWritesTracker.mustReadPrimary(principal))
+                || !replicaUsable.getAsBoolean()) {
+            return Target.PRIMARY;
+        }
+        markReadingReplica();
+        return Target.REPLICA;
+    }
+
+    private static void markReadingReplica() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive() || isReadingReplica()) {
+            return;
+        }
+        READING_REPLICA.set(Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                READING_REPLICA.remove();
+            }
+        });
+    }
+
+    private static String currentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated() ? authentication.getName() : null;
+    }
+}
@@ -0,0 +1,31 @@
+package com.unbound.backend.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+
+/**
+ * Remembers which principals wrote recently so their reads stay on the primary
+ * until the replica has had time to catch up. Keyed by principal name, which is
+ * the email for both claim-based and legacy authentications.
+ */
+public class ReadYourWritesTracker {
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(Duration window, long maxPrincipals) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(maxPrincipals)
+                .build();
+    }
+
+    public void recordWrite(String principal) {
+        recentWriters.put(principal, Boolean.TRUE);
+    }
+
+    public boolean mustReadPrimary(String principal) {
+        return recentWriters.getIfPresent(principal) != null;
+    }
+}
@@ -0,0 +1,62 @@
+package com.unbound.backend.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Polls the replica's replay lag. Reads fall back to the primary while the replica
+ * is unreachable or further behind than {@code maxLag}; starts pessimistic until
+ * the first successful check.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final JdbcTemplate replicaJdbc;
+    private final String lagQuery;
+    private final Duration maxLag;
+
+    private volatile boolean usable;
+    private volatile double lagSeconds = Double.NaN;
+
+    public ReplicaLagMonitor(DataSource replica, String lagQuery, Duration maxLag, MeterRegistry meterRegistry) {
+        this.replicaJdbc = new JdbcTemplate(replica);
+        this.replicaJdbc.setQueryTimeout(2);
+        this.lagQuery = lagQuery;
+        this.maxLag = maxLag;
+        Gauge.builder("unbound.datasource.replica.lag", this, m -> m.lagSeconds)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("unbound.datasource.replica.usable", this, m -> m.usable ? 1 : 0)
+                .register(meterRegistry);
+    }
+
+    public boolean isUsable() {
+        return usable;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval-ms:5000}")
+    public void check() {
+        boolean wasUsable = usable;
+        try {
+            Number lag = replicaJdbc.queryForObject(lagQuery, Number.class);
+            lagSeconds = lag != null ? lag.doubleValue() : 0;
+            usable = lagSeconds <= maxLag.toMillis() / 1000.0;
+        } catch (Exception e) {
+            lagSeconds = Double.NaN;
+            usable = false;
+            if (wasUsable) {
+                log.warn("Replica lag check failed, routing reads to primary: {}", e.getMessage());
+            }
+        }
+
+        if (wasUsable != usable) {
+            log.info("Replica {} (lag {}s, max {}s)", usable ? "in use" : "bypassed", lagSeconds, maxLag.toSeconds());
+        }
+    }
+}
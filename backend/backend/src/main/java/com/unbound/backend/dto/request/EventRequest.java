@@ -24,6 +24,11 @@ public class EventRequest {
     @Future(message = "Event date must be in the future")
     private LocalDateTime eventDate;
 
+    // Optional — defaults to 60 minutes; used for venue double-booking checks
+    @Min(value = 1, message = "Duration must be at least 1 minute")
+    @Max(value = 10080, message = "Duration cannot exceed 7 days")
+    private Integer durationMinutes;
+
     @NotNull(message = "Max participants is required")
     @Min(value = 1, message = "Max participants must be at least 1")
     private Integer maxParticipants;
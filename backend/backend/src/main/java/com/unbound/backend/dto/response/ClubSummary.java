@@ -0,0 +1,16 @@
+package com.unbound.backend.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ClubSummary {
+    private Long id;
+    private String name;
+    private String logoUrl;
+    private String category;
+    private int eventCount;
+}
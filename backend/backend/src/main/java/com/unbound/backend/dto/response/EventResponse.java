@@ -7,6 +7,7 @@ import lombok.Builder;
 import lombok.Data;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Data
 @Builder
@@ -18,16 +19,20 @@ public class EventResponse {
     private String bannerUrl;
     private String venue;
     private LocalDateTime eventDate;
+    private Integer durationMinutes;
     private int maxParticipants;
     private int currentRegistrations;
     private Double feeAmount;
     private boolean isPaid;
     private EventCategory category;
     private EventStatus status;
+    private boolean registrationOpen;
     private Long festId;
     private String festName;
     private Long clubId;
     private String clubName;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    // Set only in flag mode when the booking overlaps other events at the venue
+    private List<Long> venueConflicts;
 }
@@ -0,0 +1,14 @@
+package com.unbound.backend.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class FestOverviewResponse {
+    private FestResponse fest;
+    private List<EventResponse> events;
+    private List<ClubSummary> clubs;
+}
@@ -22,4 +22,6 @@ public class PaymentResponse {
     private PaymentStatus status;
     private String failureReason;
     private LocalDateTime createdAt;
+    // Set on a new order: the seat is held for this payment until then
+    private LocalDateTime seatHeldUntil;
 }
@@ -14,6 +14,7 @@ public class PaymentStatisticsResponse {
     private int successfulPayments;
     private int failedPayments;
     private int pendingPayments;
+    private int refundPendingPayments;
     private int refundedPayments;
     private Double totalRevenue;
     private Double averageTransactionAmount;
@@ -0,0 +1,37 @@
+package com.unbound.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VenueAvailabilityResponse {
+    private String venue;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private List<Booking> bookings;
+    private List<Slot> freeSlots;
+
+    @Data
+    @AllArgsConstructor
+    public static class Booking {
+        private Long eventId;
+        private String title;
+        private LocalDateTime start;
+        private LocalDateTime end;
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class Slot {
+        private LocalDateTime start;
+        private LocalDateTime end;
+    }
+}
@@ -17,7 +17,8 @@ import java.time.LocalDateTime;
 public class Certificate {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "certificates_seq")
+    @SequenceGenerator(name = "certificates_seq", sequenceName = "certificates_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
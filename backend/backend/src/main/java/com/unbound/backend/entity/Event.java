@@ -4,6 +4,7 @@ import com.unbound.backend.enums.EventCategory;
 import com.unbound.backend.enums.EventStatus;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -19,7 +20,8 @@ import java.time.LocalDateTime;
 public class Event {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "events_seq")
+    @SequenceGenerator(name = "events_seq", sequenceName = "events_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -38,6 +40,9 @@ public class Event {
     @Column(nullable = false)
     private LocalDateTime eventDate;
 
+    // Length of the venue booking; null on events created before durations were tracked
+    private Integer durationMinutes;
+
     @Column(nullable = false)
     private int maxParticipants;
 
@@ -50,6 +55,12 @@ public class Event {
     @Builder.Default
     private EventStatus status = EventStatus.DRAFT;
 
+    // Cleared by EventLifecycleScheduler at the registration cutoff before eventDate
+    @Column(nullable = false)
+    @ColumnDefault("true")
+    @Builder.Default
+    private boolean registrationOpen = true;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "fest_id")
     private Fest fest;
@@ -64,4 +75,10 @@ public class Event {
 
     @UpdateTimestamp
     private LocalDateTime updatedAt;
+
+    public static final int DEFAULT_DURATION_MINUTES = 60;
+
+    public LocalDateTime getEndTime() {
+        return eventDate.plusMinutes(durationMinutes != null ? durationMinutes : DEFAULT_DURATION_MINUTES);
+    }
 }
@@ -18,7 +18,8 @@ import java.time.LocalDateTime;
 public class Registration {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "registrations_seq")
+    @SequenceGenerator(name = "registrations_seq", sequenceName = "registrations_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,30 @@
+package com.unbound.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// One row per scheduled job; see ScheduledJobLock. Mapped so ddl-auto creates the table
+@Entity
+@Table(name = "scheduler_locks")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SchedulerLock {
+
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    @Column(nullable = false)
+    private LocalDateTime lockedUntil;
+
+    @Column(nullable = false)
+    private LocalDateTime lockedAt;
+
+    @Column(nullable = false)
+    private String lockedBy;
+}
@@ -0,0 +1,44 @@
+package com.unbound.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+// A seat reserved for one pending payment; the row is deleted when the hold ends
+@Entity
+@Table(name = "seat_holds",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "event_id"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SeatHold {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "seat_holds_seq")
+    @SequenceGenerator(name = "seat_holds_seq", sequenceName = "seat_holds_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "event_id", nullable = false)
+    private Event event;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "payment_id", nullable = false, unique = true)
+    private Payment payment;
+
+    // Counts against capacity only until then, whether or not expiry has run yet
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    @CreationTimestamp
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+}
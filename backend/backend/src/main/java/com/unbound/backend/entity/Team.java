@@ -18,7 +18,8 @@ import java.util.List;
 public class Team {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "teams_seq")
+    @SequenceGenerator(name = "teams_seq", sequenceName = "teams_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -4,5 +4,7 @@ public enum PaymentStatus {
     PENDING,
     SUCCESS,
     FAILED,
+    // Captured, but the seat hold lapsed and the event filled up before verification
+    REFUND_PENDING,
     REFUNDED
 }
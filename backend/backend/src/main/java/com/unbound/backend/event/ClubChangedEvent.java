@@ -0,0 +1,11 @@
+package com.unbound.backend.event;
+
+import com.unbound.backend.enums.ClubStatus;
+
+/**
+ * Published on any club create, update, status change or delete, carrying the
+ * club's state after the change. Read-side caches of club data update on it
+ * after the transaction commits.
+ */
+public record ClubChangedEvent(Long clubId, String name, ClubStatus status, boolean active) {
+}
@@ -0,0 +1,11 @@
+package com.unbound.backend.event;
+
+import com.unbound.backend.enums.ClubStatus;
+
+/**
+ * Published when a club is approved or rejected. Carries everything the owner
+ * notification needs so the listener never touches the (closed) persistence context.
+ */
+public record ClubStatusChangedEvent(Long clubId, String clubName, String ownerEmail, String ownerName,
+                                     ClubStatus status, String rejectionReason) {
+}
@@ -0,0 +1,28 @@
+package com.unbound.backend.event;
+
+import com.unbound.backend.entity.Event;
+import com.unbound.backend.enums.EventStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published when an event is created, edited, published, cancelled or deleted,
+ * carrying its state after the change ({@code deleted} once the row is gone).
+ */
+public record EventChangedEvent(Long eventId, String title, EventStatus status,
+                                String venue, LocalDateTime startsAt, LocalDateTime endsAt,
+                                boolean deleted) {
+
+    public static EventChangedEvent saved(Event event) {
+        return of(event, false);
+    }
+
+    public static EventChangedEvent deleted(Event event) {
+        return of(event, true);
+    }
+
+    private static EventChangedEvent of(Event event, boolean deleted) {
+        return new EventChangedEvent(event.getId(), event.getTitle(), event.getStatus(),
+                event.getVenue(), event.getEventDate(), event.getEndTime(), deleted);
+    }
+}
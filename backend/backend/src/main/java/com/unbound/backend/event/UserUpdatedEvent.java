@@ -0,0 +1,8 @@
+package com.unbound.backend.event;
+
+/**
+ * Published whenever a User row is saved with changed profile, status or role.
+ * Caches keyed by the user evict on it after the transaction commits.
+ */
+public record UserUpdatedEvent(Long userId, String email) {
+}
@@ -1,7 +1,9 @@
 package com.unbound.backend.exception;
 
 import com.unbound.backend.dto.response.ApiResponse;
+import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -9,6 +11,7 @@ import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.authentication.InsufficientAuthenticationException;
 import org.springframework.security.authorization.AuthorizationDeniedException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
@@ -135,6 +138,23 @@ public class GlobalExceptionHandler {
                                                 .build());
         }
 
+        // 503 — shed load (e.g. BCrypt pool saturated); client should retry later
+        @ExceptionHandler(ServiceUnavailableException.class)
+        public ResponseEntity<ApiResponse<Void>> handleUnavailable(ServiceUnavailableException ex) {
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                                .body(ApiResponse.error(ex.getMessage()));
+        }
+
+        // 503 — no DB connection within the pool's connection-timeout; the pool is the
+        // concurrency limit (notably with virtual threads), so shed instead of queueing
+        @ExceptionHandler({ CannotCreateTransactionException.class, DataAccessResourceFailureException.class })
+        public ResponseEntity<ApiResponse<Void>> handleNoConnection(Exception ex) {
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                                .header(HttpHeaders.RETRY_AFTER, "1")
+                                .body(ApiResponse.error("Server is busy, please retry shortly"));
+        }
+
         // 500 — fallback for anything unhandled
         @ExceptionHandler(Exception.class)
         public ResponseEntity<ApiResponse<Void>> handleGeneric(Exception ex) {
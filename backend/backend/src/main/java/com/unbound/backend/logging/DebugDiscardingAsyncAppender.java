@@ -0,0 +1,18 @@
+package com.unbound.backend.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+/**
+ * AsyncAppender that only ever drops DEBUG and TRACE. The stock appender also
+ * discards INFO once the queue passes the discarding threshold; here INFO and
+ * above wait for space instead, so audit-relevant lines are never lost.
+ */
+public class DebugDiscardingAsyncAppender extends AsyncAppender {
+
+    @Override
+    protected boolean isDiscardable(ILoggingEvent event) {
+        return event.getLevel().toInt() <= Level.DEBUG_INT;
+    }
+}
@@ -0,0 +1,65 @@
+package com.unbound.backend.metrics;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * SQL statements run on the current request thread, collected by
+ * {@link StatementCountingDataSource} between {@link #begin()} and {@link #end()}.
+ * Statements are grouped by shape (IN lists collapsed) so a statement repeated
+ * once per row, the usual N+1 from a lazy association in toResponse, stands out.
+ */
+public final class SqlStatementStats {
+
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)+\\s*\\)");
+
+    private final Map<String, Integer> countByShape = new HashMap<>();
+    private int statementCount;
+    private long jdbcNanos;
+
+    private SqlStatementStats() {
+    }
+
+    public static SqlStatementStats begin() {
+        SqlStatementStats stats = new SqlStatementStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    static SqlStatementStats current() {
+        return CURRENT.get();
+    }
+
+    void record(String sql, long nanos) {
+        statementCount++;
+        jdbcNanos += nanos;
+        if (sql != null) {
+            countByShape.merge(IN_LIST.matcher(sql).replaceAll("(?)"), 1, Integer::sum);
+        }
+    }
+
+    public int statementCount() {
+        return statementCount;
+    }
+
+    public long jdbcMillis() {
+        return jdbcNanos / 1_000_000;
+    }
+
+    public Map<String, Integer> countByShape() {
+        return Collections.unmodifiableMap(countByShape);
+    }
+
+    public Map.Entry<String, Integer> mostRepeated() {
+        return countByShape.entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .orElse(null);
+    }
+}
@@ -0,0 +1,101 @@
+package com.unbound.backend.metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Outermost filter: collects the request's SQL statements (including those run by
+ * the security filters) and warns when a request runs more than max-statements
+ * or repeats one statement shape more than max-repeats times.
+ *
+ * A log-sample-rate share of requests also logs its statement shapes at INFO, which
+ * stands in for SQL logging in production where per-statement logging is off.
+ *
+ * With response-headers on, X-SQL-Count and X-SQL-Time-Ms are added, which is how
+ * tests assert a query budget per endpoint. The body is buffered so the headers can
+ * be set after the handler ran; keep it off in production. CSV downloads are never
+ * buffered (they stream row by row) and so never get the headers.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@Slf4j
+public class SqlStatementStatsFilter extends OncePerRequestFilter {
+
+    public static final String COUNT_HEADER = "X-SQL-Count";
+    public static final String TIME_HEADER = "X-SQL-Time-Ms";
+
+    private final boolean enabled;
+    private final boolean responseHeaders;
+    private final int maxStatements;
+    private final int maxRepeats;
+    private final double logSampleRate;
+
+    public SqlStatementStatsFilter(@Value("${app.sql-stats.enabled:true}") boolean enabled,
+                                   @Value("${app.sql-stats.response-headers:false}") boolean responseHeaders,
+                                   @Value("${app.sql-stats.max-statements:30}") int maxStatements,
+                                   @Value("${app.sql-stats.max-repeats:5}") int maxRepeats,
+                                   @Value("${app.sql-stats.log-sample-rate:0}") double logSampleRate) {
+        this.enabled = enabled;
+        this.responseHeaders = responseHeaders;
+        this.maxStatements = maxStatements;
+        this.maxRepeats = maxRepeats;
+        this.logSampleRate = logSampleRate;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+
+        SqlStatementStats stats = SqlStatementStats.begin();
+        boolean buffer = responseHeaders && !request.getRequestURI().endsWith(".csv");
+        ContentCachingResponseWrapper buffered = buffer ? new ContentCachingResponseWrapper(response) : null;
+        try {
+            filterChain.doFilter(request, buffered != null ? buffered : response);
+        } finally {
+            SqlStatementStats.end();
+            report(request, stats);
+            if (buffered != null) {
+                buffered.setHeader(COUNT_HEADER, String.valueOf(stats.statementCount()));
+                buffered.setHeader(TIME_HEADER, String.valueOf(stats.jdbcMillis()));
+                buffered.copyBodyToResponse();
+            }
+        }
+    }
+
+    private void report(HttpServletRequest request, SqlStatementStats stats) {
+        if (stats.statementCount() > maxStatements) {
+            log.warn("{} {} ran {} SQL statements ({} ms in JDBC), limit is {}",
+                    request.getMethod(), request.getRequestURI(), stats.statementCount(), stats.jdbcMillis(), maxStatements);
+        }
+        Map.Entry<String, Integer> repeated = stats.mostRepeated();
+        if (repeated != null && repeated.getValue() > maxRepeats) {
+            log.warn("Possible N+1 on {} {}: same statement ran {} times: {}",
+                    request.getMethod(), request.getRequestURI(), repeated.getValue(), repeated.getKey());
+        }
+        if (logSampleRate > 0 && stats.statementCount() > 0 && ThreadLocalRandom.current().nextDouble() < logSampleRate) {
+            log.info("SQL sample {} {}: {} statements, {} ms in JDBC, by shape: {}",
+                    request.getMethod(), request.getRequestURI(), stats.statementCount(), stats.jdbcMillis(),
+                    stats.countByShape());
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.unbound.backend.metrics;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Times every execute* call on statements from the wrapped DataSource and reports
+ * it to the request's {@link SqlStatementStats}. Outside a request (schedulers,
+ * async listeners) statements pass straight through untimed.
+ */
+public class StatementCountingDataSource extends DelegatingDataSource {
+
+    public StatementCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrapConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrapConnection(super.getConnection(username, password));
+    }
+
+    private static Connection wrapConnection(Connection connection) {
+        return proxy(Connection.class, connection, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (result instanceof Statement statement) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+                return wrapStatement(method.getReturnType(), statement, sql);
+            }
+            return result;
+        });
+    }
+
+    private static Object wrapStatement(Class<?> type, Statement statement, String preparedSql) {
+        return proxy(type, statement, (proxy, method, args) -> {
+            SqlStatementStats stats = SqlStatementStats.current();
+            if (stats == null || !method.getName().startsWith("execute")) {
+                return invoke(statement, method, args);
+            }
+            String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : preparedSql;
+            long start = System.nanoTime();
+            try {
+                return invoke(statement, method, args);
+            } finally {
+                stats.record(sql, System.nanoTime() - start);
+            }
+        });
+    }
+
+    private static <T> T proxy(Class<T> type, Object target, InvocationHandler handler) {
+        InvocationHandler withIdentity = (proxy, method, args) -> switch (method.getName()) {
+            case "equals" -> args.length == 1 && proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            default -> handler.invoke(proxy, method, args);
+        };
+        return type.cast(Proxy.newProxyInstance(StatementCountingDataSource.class.getClassLoader(),
+                new Class<?>[] { type }, withIdentity));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
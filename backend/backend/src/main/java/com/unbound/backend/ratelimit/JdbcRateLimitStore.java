@@ -0,0 +1,66 @@
+package com.unbound.backend.ratelimit;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Shared fixed-window counters in PostgreSQL so every node enforces the same limit.
+ * One upsert per limited request; the table comes from V2__rate_limit_counters.sql.
+ * Fails open — a database hiccup must not lock everyone out of login.
+ */
+@Component
+@ConditionalOnProperty(name = "app.rate-limit.store", havingValue = "jdbc")
+@RequiredArgsConstructor
+@Slf4j
+public class JdbcRateLimitStore implements RateLimitStore {
+
+    // Counts the hit and, once over capacity, the rejection in the same statement
+    private static final String UPSERT = """
+            INSERT INTO rate_limit_counters (bucket_key, window_start, hits, rejected)
+            VALUES (?, ?, 1, 0)
+            ON CONFLICT (bucket_key) DO UPDATE SET
+                hits = CASE WHEN rate_limit_counters.window_start = EXCLUDED.window_start
+                            THEN rate_limit_counters.hits + 1 ELSE 1 END,
+                rejected = CASE WHEN rate_limit_counters.window_start = EXCLUDED.window_start
+                                THEN rate_limit_counters.rejected
+                                     + CASE WHEN rate_limit_counters.hits >= ? THEN 1 ELSE 0 END
+                                ELSE 0 END,
+                window_start = EXCLUDED.window_start
+            RETURNING hits
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public long tryAcquire(String key, RateLimitPolicy policy) {
+        long windowMillis = policy.window().toMillis();
+        long now = System.currentTimeMillis();
+        long windowStart = now - (now % windowMillis);
+
+        try {
+            Integer hits = jdbcTemplate.queryForObject(UPSERT, Integer.class, key, windowStart, policy.capacity());
+            if (hits == null || hits <= policy.capacity()) {
+                return 0;
+            }
+            return Math.max(1, (windowStart + windowMillis - now + 999) / 1000);
+        } catch (DataAccessException e) {
+            log.warn("Shared rate limit store unavailable, allowing request for {}: {}", key, e.getMessage());
+            return 0;
+        }
+    }
+
+    @Override
+    public List<RateLimitKeyStats> topKeys(int limit) {
+        return jdbcTemplate.query(
+                "SELECT bucket_key, hits, rejected FROM rate_limit_counters ORDER BY rejected DESC, hits DESC LIMIT ?",
+                (rs, i) -> new RateLimitKeyStats(rs.getString("bucket_key"),
+                        rs.getLong("hits") - rs.getLong("rejected"), rs.getLong("rejected")),
+                limit);
+    }
+}
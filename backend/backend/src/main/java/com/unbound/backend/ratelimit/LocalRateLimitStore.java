@@ -0,0 +1,49 @@
+package com.unbound.backend.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-node token buckets. Idle keys are dropped after {@code idle-timeout}, which
+ * also bounds memory when a scanner cycles through many source addresses.
+ */
+@Component
+@ConditionalOnProperty(name = "app.rate-limit.store", havingValue = "local", matchIfMissing = true)
+public class LocalRateLimitStore implements RateLimitStore {
+
+    private final Cache<String, TokenBucket> buckets;
+
+    public LocalRateLimitStore(@Value("${app.rate-limit.idle-timeout:10m}") Duration idleTimeout,
+                               @Value("${app.rate-limit.max-keys:100000}") long maxKeys) {
+        this.buckets = Caffeine.newBuilder()
+                .expireAfterAccess(idleTimeout)
+                .maximumSize(maxKeys)
+                .build();
+    }
+
+    @Override
+    public long tryAcquire(String key, RateLimitPolicy policy) {
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.get(key, k -> new TokenBucket(policy, now));
+        long waitNanos = bucket.tryConsume(now);
+        return waitNanos == 0 ? 0 : Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+    }
+
+    @Override
+    public List<RateLimitKeyStats> topKeys(int limit) {
+        return buckets.asMap().entrySet().stream()
+                .map(e -> new RateLimitKeyStats(e.getKey(), e.getValue().allowed(), e.getValue().rejected()))
+                .sorted(Comparator.comparingLong(RateLimitKeyStats::rejected).reversed()
+                        .thenComparing(Comparator.comparingLong(RateLimitKeyStats::allowed).reversed()))
+                .limit(limit)
+                .toList();
+    }
+}
@@ -0,0 +1,28 @@
+package com.unbound.backend.ratelimit;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * /actuator/ratelimits — per-key counters, kept out of Micrometer tags so client
+ * addresses don't blow up metric cardinality.
+ */
+@Component
+@Endpoint(id = "ratelimits")
+@RequiredArgsConstructor
+public class RateLimitEndpoint {
+
+    private static final int DEFAULT_LIMIT = 50;
+
+    private final RateLimitStore store;
+
+    @ReadOperation
+    public List<RateLimitKeyStats> topKeys(@Nullable Integer limit) {
+        return store.topKeys(limit != null ? limit : DEFAULT_LIMIT);
+    }
+}
@@ -0,0 +1,102 @@
+package com.unbound.backend.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unbound.backend.dto.response.ApiResponse;
+import com.unbound.backend.security.AuthenticatedUser;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Runs right after JwtFilter so authenticated calls are limited per user and
+ * anonymous ones (login, register) per client address. Each route class has
+ * its own policy under app.rate-limit.&lt;route&gt;.capacity / .window.
+ */
+@Component
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimitStore store;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final Map<RouteClass, RateLimitPolicy> policies = new EnumMap<>(RouteClass.class);
+    private final Map<RouteClass, Counter> allowedCounters = new EnumMap<>(RouteClass.class);
+    private final Map<RouteClass, Counter> rejectedCounters = new EnumMap<>(RouteClass.class);
+
+    public RateLimitFilter(RateLimitStore store, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                           Environment environment,
+                           @Value("${app.rate-limit.enabled:true}") boolean enabled) {
+        this.store = store;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+
+        for (RouteClass routeClass : RouteClass.values()) {
+            String prefix = "app.rate-limit." + routeClass.key();
+            policies.put(routeClass, new RateLimitPolicy(
+                    environment.getProperty(prefix + ".capacity", Integer.class, routeClass.defaultCapacity()),
+                    environment.getProperty(prefix + ".window", Duration.class, routeClass.defaultWindow())));
+            allowedCounters.put(routeClass, Counter.builder("unbound.ratelimit.requests")
+                    .tag("route", routeClass.key()).tag("outcome", "allowed").register(meterRegistry));
+            rejectedCounters.put(routeClass, Counter.builder("unbound.ratelimit.requests")
+                    .tag("route", routeClass.key()).tag("outcome", "rejected").register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || RouteClass.resolve(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+
+        RouteClass routeClass = RouteClass.resolve(request);
+        String key = routeClass.key() + ":" + clientKey(request);
+        long retryAfterSeconds = store.tryAcquire(key, policies.get(routeClass));
+
+        if (retryAfterSeconds == 0) {
+            allowedCounters.get(routeClass).increment();
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        rejectedCounters.get(routeClass).increment();
+        log.debug("Rate limit exceeded for {}", key);
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+                ApiResponse.error("Too many requests. Please retry in " + retryAfterSeconds + " seconds."));
+    }
+
+    // Behind a proxy set server.forward-headers-strategy so getRemoteAddr() is the real client
+    private String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return "user:" + user.id();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
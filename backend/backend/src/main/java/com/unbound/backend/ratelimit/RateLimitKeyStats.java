@@ -0,0 +1,4 @@
+package com.unbound.backend.ratelimit;
+
+public record RateLimitKeyStats(String key, long allowed, long rejected) {
+}
@@ -0,0 +1,10 @@
+package com.unbound.backend.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * {@code capacity} requests per {@code window}; the local store refills the
+ * bucket continuously, the JDBC store counts in fixed windows.
+ */
+public record RateLimitPolicy(int capacity, Duration window) {
+}
@@ -0,0 +1,16 @@
+package com.unbound.backend.ratelimit;
+
+import java.util.List;
+
+public interface RateLimitStore {
+
+    /**
+     * Takes one permit for {@code key}.
+     *
+     * @return 0 when the request may proceed, otherwise the seconds until it may retry
+     */
+    long tryAcquire(String key, RateLimitPolicy policy);
+
+    // Keys with the most rejections, for the ratelimits actuator endpoint
+    List<RateLimitKeyStats> topKeys(int limit);
+}
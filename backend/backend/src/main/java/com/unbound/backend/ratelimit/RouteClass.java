@@ -0,0 +1,55 @@
+package com.unbound.backend.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.time.Duration;
+import java.util.regex.Pattern;
+
+/**
+ * Endpoints that get their own rate limit. Defaults are deliberately generous —
+ * a whole campus can sit behind one NAT address.
+ */
+public enum RouteClass {
+
+    LOGIN("login", "/api/auth/login", 20, Duration.ofMinutes(1)),
+    REGISTER("register", "/api/auth/register", 10, Duration.ofMinutes(1)),
+    EVENT_REGISTRATION("event-registration", "/api/registrations/\\d+", 30, Duration.ofMinutes(1));
+
+    private final String key;
+    private final Pattern path;
+    private final int defaultCapacity;
+    private final Duration defaultWindow;
+
+    RouteClass(String key, String pathRegex, int defaultCapacity, Duration defaultWindow) {
+        this.key = key;
+        this.path = Pattern.compile(pathRegex);
+        this.defaultCapacity = defaultCapacity;
+        this.defaultWindow = defaultWindow;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    public int defaultCapacity() {
+        return defaultCapacity;
+    }
+
+    public Duration defaultWindow() {
+        return defaultWindow;
+    }
+
+    // Only POSTs are limited — reads on the same paths stay free
+    public static RouteClass resolve(HttpServletRequest request) {
+        if (!"POST".equals(request.getMethod())) {
+            return null;
+        }
+        String uri = request.getRequestURI();
+        for (RouteClass routeClass : values()) {
+            if (routeClass.path.matcher(uri).matches()) {
+                return routeClass;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,54 @@
+package com.unbound.backend.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Lock-free token bucket: the state is one immutable snapshot swapped with CAS,
+ * so concurrent requests for the same key never block each other.
+ */
+final class TokenBucket {
+
+    private record State(double tokens, long refilledAtNanos) {
+    }
+
+    private final int capacity;
+    private final double tokensPerNano;
+    private final AtomicReference<State> state;
+    private final AtomicLong allowed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    TokenBucket(RateLimitPolicy policy, long nowNanos) {
+        this.capacity = policy.capacity();
+        this.tokensPerNano = (double) policy.capacity() / policy.window().toNanos();
+        this.state = new AtomicReference<>(new State(capacity, nowNanos));
+    }
+
+    /**
+     * @return 0 if a token was taken, otherwise nanos until the next token is available
+     */
+    long tryConsume(long nowNanos) {
+        while (true) {
+            State current = state.get();
+            long elapsed = Math.max(0, nowNanos - current.refilledAtNanos());
+            double tokens = Math.min(capacity, current.tokens() + elapsed * tokensPerNano);
+
+            if (tokens < 1) {
+                rejected.incrementAndGet();
+                return (long) Math.ceil((1 - tokens) / tokensPerNano);
+            }
+            if (state.compareAndSet(current, new State(tokens - 1, Math.max(nowNanos, current.refilledAtNanos())))) {
+                allowed.incrementAndGet();
+                return 0;
+            }
+        }
+    }
+
+    long allowed() {
+        return allowed.get();
+    }
+
+    long rejected() {
+        return rejected.get();
+    }
+}
@@ -5,10 +5,13 @@ import com.unbound.backend.entity.College;
 import com.unbound.backend.entity.User;
 import com.unbound.backend.enums.ClubStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -49,6 +52,12 @@ public interface ClubRepository extends JpaRepository<Club, Long> {
     int countByStatus(ClubStatus status);
     int countByCollegeAndStatus(College college, ClubStatus status);
 
+    // Whole statistics dashboard in one aggregate, optionally scoped to a college
+    @Query("SELECT c.status AS status, c.isActive AS active, COUNT(c) AS total FROM Club c " +
+           "WHERE (:collegeId IS NULL OR c.college.id = :collegeId) " +
+           "GROUP BY c.status, c.isActive")
+    List<ClubStatusCount> countByStatusAndActive(@Param("collegeId") Long collegeId);
+
     // Optimized filter with JOIN FETCH
     @Query("SELECT c FROM Club c " +
            "LEFT JOIN FETCH c.college col " +
@@ -72,4 +81,13 @@ public interface ClubRepository extends JpaRepository<Club, Long> {
            "LEFT JOIN FETCH c.createdBy u " +
            "WHERE c.id IN :clubIds AND c.isActive = true")
     List<Club> findAllByIdInWithRelations(@Param("clubIds") List<Long> clubIds);
+
+    // Single UPDATE for a bulk approve/reject; bypasses @UpdateTimestamp so updatedAt is set explicitly
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Club c SET c.status = :status, c.rejectionReason = :rejectionReason, c.updatedAt = :updatedAt " +
+           "WHERE c.id IN :clubIds")
+    int updateStatusForIds(@Param("clubIds") Collection<Long> clubIds,
+                           @Param("status") ClubStatus status,
+                           @Param("rejectionReason") String rejectionReason,
+                           @Param("updatedAt") LocalDateTime updatedAt);
 }
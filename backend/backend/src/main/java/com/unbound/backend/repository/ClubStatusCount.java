@@ -0,0 +1,10 @@
+package com.unbound.backend.repository;
+
+import com.unbound.backend.enums.ClubStatus;
+
+// One row of the club statistics aggregate (status x isActive)
+public interface ClubStatusCount {
+    ClubStatus getStatus();
+    boolean isActive();
+    long getTotal();
+}
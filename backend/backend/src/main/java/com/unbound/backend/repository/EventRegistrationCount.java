@@ -0,0 +1,7 @@
+package com.unbound.backend.repository;
+
+// One row of the per-event registration count aggregate
+public interface EventRegistrationCount {
+    Long getEventId();
+    long getTotal();
+}
@@ -7,13 +7,16 @@ import com.unbound.backend.enums.EventCategory;
 import com.unbound.backend.enums.EventStatus;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import jakarta.persistence.LockModeType;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -51,6 +54,7 @@ public interface EventRepository extends JpaRepository<Event, Long> {
     List<Event> findAllByStatus(EventStatus status);
     List<Event> findAllByFestAndStatus(Fest fest, EventStatus status);
     int countByFest(Fest fest);
+    List<Event> findAllByStatusIn(Collection<EventStatus> statuses);
 
     // Optimized filter query with JOIN FETCH
     @Query("SELECT DISTINCT e FROM Event e " +
@@ -104,4 +108,30 @@ public interface EventRepository extends JpaRepository<Event, Long> {
            "LEFT JOIN FETCH e.fest f " +
            "WHERE e.id IN :eventIds")
     List<Event> findAllByIdInWithRelations(@Param("eventIds") List<Long> eventIds);
+
+    // Reminder wheel (EventReminderScheduler) — ids and start times only
+    @Query("SELECT e.id AS id, e.eventDate AS eventDate FROM Event e " +
+           "WHERE e.status = 'PUBLISHED' AND e.eventDate > :from")
+    List<EventStart> findPublishedStartingAfter(@Param("from") LocalDateTime from);
+
+    // Lifecycle batches (EventLifecycleScheduler) — ids first, then one set-based UPDATE
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM Event e WHERE e.status = 'PUBLISHED' AND e.eventDate < :before ORDER BY e.id")
+    List<Event> findPublishedBeforeForUpdate(@Param("before") LocalDateTime before, Pageable batch);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Event e SET e.status = 'COMPLETED', e.updatedAt = :now " +
+           "WHERE e.id IN :ids AND e.status = 'PUBLISHED'")
+    int markCompleted(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    @Query("SELECT e.id FROM Event e WHERE e.registrationOpen = true AND e.eventDate < :before ORDER BY e.id")
+    List<Long> findIdsWithRegistrationOpenBefore(@Param("before") LocalDateTime before, Pageable batch);
+
+    @Query("SELECT e.id FROM Event e WHERE e.registrationOpen = false AND e.eventDate >= :from ORDER BY e.id")
+    List<Long> findIdsWithRegistrationClosedFrom(@Param("from") LocalDateTime from, Pageable batch);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Event e SET e.registrationOpen = :open, e.updatedAt = :now WHERE e.id IN :ids")
+    int setRegistrationOpen(@Param("ids") Collection<Long> ids, @Param("open") boolean open,
+                            @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,9 @@
+package com.unbound.backend.repository;
+
+import java.time.LocalDateTime;
+
+// An event id and its start time, for schedules that need nothing else
+public interface EventStart {
+    Long getId();
+    LocalDateTime getEventDate();
+}
@@ -2,13 +2,29 @@ package com.unbound.backend.repository;
 
 import com.unbound.backend.entity.College;
 import com.unbound.backend.entity.Fest;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface FestRepository extends JpaRepository<Fest, Long> {
+    // Fest listings are served from the query cache until a fests write invalidates them
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Fest> findAll();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Fest> findAllByCollege(College college);
+
     boolean existsByNameAndCollege(String name, College college);
+
+    @Query("SELECT f FROM Fest f LEFT JOIN FETCH f.college WHERE f.id = :id")
+    Optional<Fest> findByIdWithCollege(@Param("id") Long id);
 }
@@ -0,0 +1,9 @@
+package com.unbound.backend.repository;
+
+import java.time.LocalDateTime;
+
+// A seat hold id and when it runs out, for rebuilding the expiry wheel
+public interface HoldExpiry {
+    Long getId();
+    LocalDateTime getExpiresAt();
+}
@@ -5,11 +5,13 @@ import com.unbound.backend.entity.Payment;
 import com.unbound.backend.entity.User;
 import com.unbound.backend.enums.PaymentStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +19,15 @@ import java.util.Optional;
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
     Optional<Payment> findByRazorpayOrderId(String razorpayOrderId);
 
+    // Fails the still-pending payments behind expired seat holds, before the holds are deleted
+    @Modifying
+    @Query("UPDATE Payment p SET p.status = 'FAILED', p.failureReason = :reason, p.updatedAt = :now " +
+           "WHERE p.status = 'PENDING' AND p.id IN " +
+           "(SELECT h.payment.id FROM SeatHold h WHERE h.id IN :holdIds AND h.expiresAt <= :now)")
+    int failPendingForExpiredHolds(@Param("holdIds") Collection<Long> holdIds,
+                                   @Param("reason") String reason,
+                                   @Param("now") LocalDateTime now);
+
     // Optimized queries with JOIN FETCH to avoid N+1 problem
     @Query("SELECT p FROM Payment p " +
            "LEFT JOIN FETCH p.user u " +
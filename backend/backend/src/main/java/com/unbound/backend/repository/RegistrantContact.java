@@ -0,0 +1,8 @@
+package com.unbound.backend.repository;
+
+// Who to mail about an event, one row per registration
+public interface RegistrantContact {
+    Long getRegistrationId();
+    String getEmail();
+    String getName();
+}
@@ -4,11 +4,13 @@ import com.unbound.backend.entity.Event;
 import com.unbound.backend.entity.Registration;
 import com.unbound.backend.entity.User;
 import com.unbound.backend.enums.RegistrationStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -54,4 +56,19 @@ public interface RegistrationRepository extends JpaRepository<Registration, Long
            "LEFT JOIN FETCH r.user u " +
            "WHERE r.event.id IN :eventIds")
     List<Registration> findAllByEventIdInWithRelations(@Param("eventIds") List<Long> eventIds);
+
+    // One page of an event's registrants after registration id afterId (keyset paging)
+    @Query("SELECT r.id AS registrationId, u.email AS email, u.name AS name " +
+           "FROM Registration r JOIN r.user u " +
+           "WHERE r.event.id = :eventId AND r.status = :status AND r.id > :afterId " +
+           "ORDER BY r.id")
+    List<RegistrantContact> findContactsPage(@Param("eventId") Long eventId,
+                                             @Param("status") RegistrationStatus status,
+                                             @Param("afterId") Long afterId,
+                                             Pageable page);
+
+    // Same count as countByEvent, for many events in one round trip
+    @Query("SELECT r.event.id AS eventId, COUNT(r) AS total FROM Registration r " +
+           "WHERE r.event.id IN :eventIds GROUP BY r.event.id")
+    List<EventRegistrationCount> countByEventIds(@Param("eventIds") Collection<Long> eventIds);
 }
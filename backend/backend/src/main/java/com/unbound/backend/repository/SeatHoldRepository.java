@@ -0,0 +1,36 @@
+package com.unbound.backend.repository;
+
+import com.unbound.backend.entity.Event;
+import com.unbound.backend.entity.Payment;
+import com.unbound.backend.entity.SeatHold;
+import com.unbound.backend.entity.User;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface SeatHoldRepository extends JpaRepository<SeatHold, Long> {
+
+    Optional<SeatHold> findByPayment(Payment payment);
+
+    Optional<SeatHold> findByUserAndEvent(User user, Event event);
+
+    // Range scan on idx_seat_holds_event_expires
+    @Query("SELECT COUNT(h) FROM SeatHold h WHERE h.event = :event AND h.expiresAt > :now")
+    int countActive(@Param("event") Event event, @Param("now") LocalDateTime now);
+
+    @Query("SELECT h.id AS id, h.expiresAt AS expiresAt FROM SeatHold h")
+    List<HoldExpiry> findAllExpiries();
+
+    // Guarded by expiresAt so a hold converted or replaced meanwhile is left alone
+    @Modifying
+    @Query("DELETE FROM SeatHold h WHERE h.id IN :ids AND h.expiresAt <= :now")
+    int deleteExpired(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,9 @@
+package com.unbound.backend.repository;
+
+import com.unbound.backend.enums.Role;
+
+// Projection used by the token revocation check — avoids loading the full User
+public interface UserAuthStatus {
+    boolean isActive();
+    Role getRole();
+}
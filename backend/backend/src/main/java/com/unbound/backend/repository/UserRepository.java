@@ -3,6 +3,8 @@ package com.unbound.backend.repository;
 import com.unbound.backend.entity.User;
 import com.unbound.backend.enums.Role;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,7 +13,14 @@ import java.util.Optional;
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
+
+    @Query("SELECT u FROM User u LEFT JOIN FETCH u.college WHERE u.email = :email")
+    Optional<User> findByEmailWithCollege(@Param("email") String email);
     boolean existsByEmail(String email);
     boolean existsByPhone(String phone);
     List<User> findAllByRole(Role role);
+
+    // Lightweight status lookup for the JWT revocation check
+    @Query("SELECT u.isActive AS active, u.role AS role FROM User u WHERE u.id = :id")
+    Optional<UserAuthStatus> findAuthStatusById(@Param("id") Long id);
 }
@@ -0,0 +1,156 @@
+package com.unbound.backend.scheduling;
+
+import com.unbound.backend.entity.Event;
+import com.unbound.backend.enums.EventStatus;
+import com.unbound.backend.event.EventChangedEvent;
+import com.unbound.backend.repository.EventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Moves events along on the clock: registration closes {@code registration-cutoff}
+ * before the start (and reopens if the event is moved later), and PUBLISHED events
+ * become COMPLETED {@code complete-after} their start, which drops them out of
+ * filterPublishedEvents. Each step is a set-based UPDATE over at most batch-size ids,
+ * committed on its own, repeated until a short batch. Runs on one node at a time
+ * (ScheduledJobLock); completions are published as EventChangedEvent after commit
+ * so the in-memory indexes drop the events.
+ */
+@Component
+@ConditionalOnProperty(name = "app.events.lifecycle.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class EventLifecycleScheduler {
+
+    static final String JOB_NAME = "event-lifecycle";
+
+    private final EventRepository eventRepository;
+    private final ScheduledJobLock jobLock;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration registrationCutoff;
+    private final Duration completeAfter;
+    private final int batchSize;
+    private final Duration lockAtMostFor;
+    private final Duration lockAtLeastFor;
+    private final Counter completed;
+    private final Counter registrationClosed;
+    private final Counter registrationReopened;
+
+    public EventLifecycleScheduler(EventRepository eventRepository,
+                                   ScheduledJobLock jobLock,
+                                   ApplicationEventPublisher eventPublisher,
+                                   PlatformTransactionManager transactionManager,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${app.events.lifecycle.registration-cutoff:1h}") Duration registrationCutoff,
+                                   @Value("${app.events.lifecycle.complete-after:12h}") Duration completeAfter,
+                                   @Value("${app.events.lifecycle.batch-size:500}") int batchSize,
+                                   @Value("${app.events.lifecycle.lock-at-most-for:10m}") Duration lockAtMostFor,
+                                   @Value("${app.events.lifecycle.interval-ms:60000}") long intervalMs) {
+        this.eventRepository = eventRepository;
+        this.jobLock = jobLock;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.registrationCutoff = registrationCutoff;
+        this.completeAfter = completeAfter;
+        this.batchSize = batchSize;
+        this.lockAtMostFor = lockAtMostFor;
+        // Half an interval: another node's run in the same tick is skipped, the next tick is not
+        this.lockAtLeastFor = Duration.ofMillis(intervalMs / 2);
+        this.completed = transitions(meterRegistry, "completed");
+        this.registrationClosed = transitions(meterRegistry, "registration_closed");
+        this.registrationReopened = transitions(meterRegistry, "registration_reopened");
+    }
+
+    private static Counter transitions(MeterRegistry meterRegistry, String transition) {
+        return Counter.builder("unbound.events.lifecycle")
+                .tag("transition", transition)
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.events.lifecycle.interval-ms:60000}",
+            initialDelayString = "${app.events.lifecycle.interval-ms:60000}")
+    public void run() {
+        jobLock.runLocked(JOB_NAME, lockAtMostFor, lockAtLeastFor, this::advance);
+    }
+
+    void advance() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime closesBefore = now.plus(registrationCutoff);
+
+        long closed = drain(() -> closeRegistrationBatch(closesBefore, now));
+        long reopened = drain(() -> reopenRegistrationBatch(closesBefore, now));
+        long done = drain(() -> completeBatch(now.minus(completeAfter), now));
+
+        if (closed + reopened + done > 0) {
+            log.info("Event lifecycle: {} completed, registration closed on {}, reopened on {}",
+                    done, closed, reopened);
+        }
+    }
+
+    private long drain(Supplier<Integer> batch) {
+        long total = 0;
+        int size;
+        do {
+            size = batch.get();
+            total += size;
+        } while (size == batchSize);
+        return total;
+    }
+
+    private int closeRegistrationBatch(LocalDateTime closesBefore, LocalDateTime now) {
+        return transactionTemplate.execute(status -> {
+            List<Long> ids = eventRepository.findIdsWithRegistrationOpenBefore(closesBefore, firstBatch());
+            if (!ids.isEmpty()) {
+                registrationClosed.increment(eventRepository.setRegistrationOpen(ids, false, now));
+            }
+            return ids.size();
+        });
+    }
+
+    private int reopenRegistrationBatch(LocalDateTime closesBefore, LocalDateTime now) {
+        return transactionTemplate.execute(status -> {
+            List<Long> ids = eventRepository.findIdsWithRegistrationClosedFrom(closesBefore, firstBatch());
+            if (!ids.isEmpty()) {
+                registrationReopened.increment(eventRepository.setRegistrationOpen(ids, true, now));
+            }
+            return ids.size();
+        });
+    }
+
+    private int completeBatch(LocalDateTime startedBefore, LocalDateTime now) {
+        return transactionTemplate.execute(status -> {
+            // Row-locked, so an edit racing this batch waits for it and then wins
+            List<Event> events = eventRepository.findPublishedBeforeForUpdate(startedBefore, firstBatch());
+            if (events.isEmpty()) {
+                return 0;
+            }
+            List<Long> ids = events.stream().map(Event::getId).toList();
+            completed.increment(eventRepository.markCompleted(ids, now));
+            // The update cleared the persistence context; these are detached copies
+            for (Event event : events) {
+                event.setStatus(EventStatus.COMPLETED);
+                eventPublisher.publishEvent(EventChangedEvent.saved(event));
+            }
+            return events.size();
+        });
+    }
+
+    private Pageable firstBatch() {
+        return PageRequest.of(0, batchSize);
+    }
+}
@@ -0,0 +1,209 @@
+package com.unbound.backend.scheduling;
+
+import com.unbound.backend.datasource.ReadWriteRoutingDataSource;
+import com.unbound.backend.entity.Event;
+import com.unbound.backend.enums.EventStatus;
+import com.unbound.backend.enums.RegistrationStatus;
+import com.unbound.backend.event.EventChangedEvent;
+import com.unbound.backend.repository.EventRepository;
+import com.unbound.backend.repository.EventStart;
+import com.unbound.backend.repository.RegistrantContact;
+import com.unbound.backend.repository.RegistrationRepository;
+import com.unbound.backend.service.EmailService;
+import com.unbound.backend.util.HashedTimingWheel;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * Reminder emails to confirmed registrants {@code lead-times} before each published
+ * event starts (24h and 1h by default). Every event has one entry per lead time in a
+ * hashed timing wheel, so keeping the schedule costs O(1) per event whatever its
+ * registrant count, and the tick only touches reminders that are due. Loaded from the
+ * upcoming published events at startup and kept current from EventChangedEvent after
+ * commit; reminders whose time passed while the node was down are not sent late.
+ * <p>
+ * Every node keeps the full wheel. A due reminder runs on the notification pool under
+ * a ScheduledJobLock lease held for its lead time, so one node sends it once, paging
+ * through registrants and handing each page to EmailService as one batch. The lease
+ * rows are deleted once the event is completed, cancelled or deleted.
+ */
+@Component
+@ConditionalOnProperty(name = "app.events.reminders.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class EventReminderScheduler {
+
+    // 4096 ticks of 30s: about 34 hours per revolution, so most reminders are one round away
+    private static final int WHEEL_SIZE = 4096;
+    private static final Duration LOCK_AT_MOST_FOR = Duration.ofHours(1);
+
+    private record Reminder(Long eventId, Duration leadTime) {
+    }
+
+    private final EventRepository eventRepository;
+    private final RegistrationRepository registrationRepository;
+    private final EmailService emailService;
+    private final ScheduledJobLock jobLock;
+    private final Executor notificationExecutor;
+    private final List<Duration> leadTimes;
+    private final int pageSize;
+    private final Counter recipients;
+    // Guarded by itself
+    private final HashedTimingWheel<Reminder, LocalDateTime> wheel;
+
+    public EventReminderScheduler(EventRepository eventRepository,
+                                  RegistrationRepository registrationRepository,
+                                  EmailService emailService,
+                                  ScheduledJobLock jobLock,
+                                  @Qualifier("notificationExecutor") Executor notificationExecutor,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${app.events.reminders.lead-times:24h,1h}") List<Duration> leadTimes,
+                                  @Value("${app.events.reminders.tick-ms:30000}") long tickMillis,
+                                  @Value("${app.events.reminders.page-size:200}") int pageSize) {
+        this.eventRepository = eventRepository;
+        this.registrationRepository = registrationRepository;
+        this.emailService = emailService;
+        this.jobLock = jobLock;
+        this.notificationExecutor = notificationExecutor;
+        this.leadTimes = List.copyOf(leadTimes);
+        this.pageSize = pageSize;
+        this.wheel = new HashedTimingWheel<>(tickMillis, WHEEL_SIZE, System.currentTimeMillis());
+        this.recipients = Counter.builder("unbound.events.reminders.recipients").register(meterRegistry);
+        Gauge.builder("unbound.events.reminders.scheduled", this, s -> s.scheduledCount())
+                .register(meterRegistry);
+    }
+
+    public int scheduledCount() {
+        synchronized (wheel) {
+            return wheel.size();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<EventStart> upcoming = ReadWriteRoutingDataSource.onPrimary(
+                () -> eventRepository.findPublishedStartingAfter(LocalDateTime.now()));
+        synchronized (wheel) {
+            upcoming.forEach(e -> schedule(e.getId(), e.getEventDate()));
+        }
+        log.info("Event reminders loaded: {} reminders for {} upcoming events", scheduledCount(), upcoming.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEventChanged(EventChangedEvent event) {
+        synchronized (wheel) {
+            if (!event.deleted() && event.status() == EventStatus.PUBLISHED && event.startsAt() != null) {
+                schedule(event.eventId(), event.startsAt());
+            } else {
+                leadTimes.forEach(lead -> wheel.cancel(new Reminder(event.eventId(), lead)));
+            }
+        }
+        // No reminder can be sent for it again, so its leases would only pile up
+        if (event.deleted() || event.status() == EventStatus.COMPLETED || event.status() == EventStatus.CANCELLED) {
+            jobLock.deleteLocks(jobPrefix(event.eventId()));
+        }
+    }
+
+    @Scheduled(fixedRateString = "${app.events.reminders.tick-ms:30000}")
+    public void tick() {
+        List<Runnable> due = new ArrayList<>();
+        synchronized (wheel) {
+            wheel.advanceTo(System.currentTimeMillis(),
+                    (reminder, eventDate) -> due.add(() -> sendOnce(reminder, eventDate)));
+        }
+        due.forEach(notificationExecutor::execute);
+    }
+
+    // Callers hold the wheel's monitor. Replaces whatever was scheduled for the event
+    private void schedule(Long eventId, LocalDateTime eventDate) {
+        long now = System.currentTimeMillis();
+        for (Duration lead : leadTimes) {
+            Reminder reminder = new Reminder(eventId, lead);
+            long deadline = epochMillis(eventDate.minus(lead));
+            if (deadline > now) {
+                wheel.schedule(reminder, deadline, eventDate);
+            } else {
+                wheel.cancel(reminder);
+            }
+        }
+    }
+
+    // The lease lasts the lead time: a node whose wheel fires a little later skips it,
+    // and an event moved by more than that gets reminded again on its new date
+    private void sendOnce(Reminder reminder, LocalDateTime eventDate) {
+        String job = jobPrefix(reminder.eventId()) + reminder.leadTime().toMinutes() + "m";
+        try {
+            jobLock.runLocked(job, LOCK_AT_MOST_FOR, reminder.leadTime(), () -> send(reminder, eventDate));
+        } catch (Exception ex) {
+            log.error("Reminder {} for event {} failed", reminder.leadTime(), reminder.eventId(), ex);
+        }
+    }
+
+    private void send(Reminder reminder, LocalDateTime eventDate) {
+        Event event = eventRepository.findById(reminder.eventId()).orElse(null);
+        // A change we have not heard about yet (or another node's): its own schedule applies
+        if (event == null || event.getStatus() != EventStatus.PUBLISHED
+                || !event.getEventDate().truncatedTo(ChronoUnit.SECONDS).equals(eventDate.truncatedTo(ChronoUnit.SECONDS))) {
+            log.debug("Skipping stale reminder for event {}", reminder.eventId());
+            return;
+        }
+
+        String startsIn = describe(reminder.leadTime());
+        long afterId = 0;
+        int sent = 0;
+        List<RegistrantContact> page;
+        do {
+            page = registrationRepository.findContactsPage(
+                    event.getId(), RegistrationStatus.CONFIRMED, afterId, PageRequest.of(0, pageSize));
+            if (page.isEmpty()) {
+                break;
+            }
+            List<EmailService.Recipient> batch = page.stream()
+                    .map(c -> new EmailService.Recipient(c.getEmail(), c.getName()))
+                    .toList();
+            emailService.sendEventReminders(batch, event.getTitle(), event.getEventDate(), event.getVenue(), startsIn);
+            recipients.increment(batch.size());
+            sent += batch.size();
+            afterId = page.get(page.size() - 1).getRegistrationId();
+        } while (page.size() == pageSize);
+
+        log.info("Sent {} reminder to {} registrants of event {}", startsIn, sent, event.getId());
+    }
+
+    // "reminder-<eventId>-"; the trailing dash keeps event 1 from matching event 12
+    private static String jobPrefix(Long eventId) {
+        return "reminder-" + eventId + "-";
+    }
+
+    static String describe(Duration leadTime) {
+        long minutes = leadTime.toMinutes();
+        if (minutes % 60 != 0) {
+            return minutes + (minutes == 1 ? " minute" : " minutes");
+        }
+        long hours = minutes / 60;
+        return hours + (hours == 1 ? " hour" : " hours");
+    }
+
+    private static long epochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
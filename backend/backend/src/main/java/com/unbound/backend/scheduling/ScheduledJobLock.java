@@ -0,0 +1,94 @@
+package com.unbound.backend.scheduling;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Leader election for scheduled jobs: every node runs the @Scheduled method, only the
+ * one that takes the job's row in scheduler_locks does the work. A lease, not a held
+ * connection — a node that dies keeps the job for at most {@code lockAtMostFor}.
+ * Uses the nodes' clocks, so they need to be roughly in sync (well under lockAtMostFor).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ScheduledJobLock {
+
+    private static final String NODE = ManagementFactory.getRuntimeMXBean().getName();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Runs {@code task} if no other node holds {@code name}. The lease is released when
+     * the task ends but kept for at least {@code lockAtLeastFor}, so a node whose clock or
+     * schedule is slightly off does not run the same job again straight away.
+     */
+    public boolean runLocked(String name, Duration lockAtMostFor, Duration lockAtLeastFor, Runnable task) {
+        LocalDateTime now = LocalDateTime.now();
+        if (!tryLock(name, now, now.plus(lockAtMostFor))) {
+            log.debug("Job {} is running on another node, skipping", name);
+            return false;
+        }
+        try {
+            task.run();
+            return true;
+        } finally {
+            unlock(name, now.plus(lockAtLeastFor));
+        }
+    }
+
+    /**
+     * Drops the lock rows whose name starts with {@code namePrefix}, for per-item jobs
+     * (one row per event) whose item is gone. Only call this once the jobs can no longer run.
+     */
+    public int deleteLocks(String namePrefix) {
+        try {
+            return jdbcTemplate.update("DELETE FROM scheduler_locks WHERE name LIKE ?", namePrefix + "%");
+        } catch (DataAccessException e) {
+            log.warn("Could not delete scheduler locks {}*: {}", namePrefix, e.getMessage());
+            return 0;
+        }
+    }
+
+    private boolean tryLock(String name, LocalDateTime now, LocalDateTime until) {
+        try {
+            int taken = jdbcTemplate.update(
+                    "UPDATE scheduler_locks SET locked_until = ?, locked_at = ?, locked_by = ? "
+                            + "WHERE name = ? AND locked_until <= ?",
+                    Timestamp.valueOf(until), Timestamp.valueOf(now), NODE, name, Timestamp.valueOf(now));
+            if (taken == 1) {
+                return true;
+            }
+            // First run anywhere: the row does not exist yet. Losing this race is a normal "held"
+            jdbcTemplate.update(
+                    "INSERT INTO scheduler_locks (name, locked_until, locked_at, locked_by) VALUES (?, ?, ?, ?)",
+                    name, Timestamp.valueOf(until), Timestamp.valueOf(now), NODE);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        } catch (DataAccessException e) {
+            log.warn("Could not take scheduler lock {}, skipping this run: {}", name, e.getMessage());
+            return false;
+        }
+    }
+
+    private void unlock(String name, LocalDateTime notBefore) {
+        LocalDateTime until = LocalDateTime.now().isAfter(notBefore) ? LocalDateTime.now() : notBefore;
+        try {
+            jdbcTemplate.update("UPDATE scheduler_locks SET locked_until = ? WHERE name = ? AND locked_by = ?",
+                    Timestamp.valueOf(until), name, NODE);
+        } catch (DataAccessException e) {
+            // The lease still runs out on its own at lockAtMostFor
+            log.warn("Could not release scheduler lock {}: {}", name, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.unbound.backend.security;
+
+import com.unbound.backend.enums.Role;
+import org.springframework.security.core.AuthenticatedPrincipal;
+
+// Principal rebuilt from signed JWT claims — no DB lookup needed per request
+public record AuthenticatedUser(Long id, String email, Role role) implements AuthenticatedPrincipal {
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
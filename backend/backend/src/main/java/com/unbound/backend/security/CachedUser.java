@@ -0,0 +1,71 @@
+package com.unbound.backend.security;
+
+import com.unbound.backend.entity.College;
+import com.unbound.backend.entity.User;
+import com.unbound.backend.enums.Role;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Immutable snapshot of a User (and its College) held in {@link UserPrincipalCache}.
+ * Entities are never shared between threads — every caller gets a fresh detached copy.
+ */
+public record CachedUser(Long id, String name, String email, String phone, String password, Role role,
+        String department, boolean active, LocalDateTime createdAt, LocalDateTime updatedAt,
+        CachedCollege college) {
+
+    public static CachedUser of(User user) {
+        College college = user.getCollege();
+        return new CachedUser(user.getId(), user.getName(), user.getEmail(), user.getPhone(),
+                user.getPassword(), user.getRole(), user.getDepartment(), user.isActive(),
+                user.getCreatedAt(), user.getUpdatedAt(),
+                college != null ? CachedCollege.of(college) : null);
+    }
+
+    public User toEntity() {
+        return User.builder()
+                .id(id)
+                .name(name)
+                .email(email)
+                .phone(phone)
+                .password(password)
+                .role(role)
+                .department(department)
+                .isActive(active)
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .college(college != null ? college.toEntity() : null)
+                .build();
+    }
+
+    public UserDetails toUserDetails() {
+        return new org.springframework.security.core.userdetails.User(
+                email,
+                password,
+                active,
+                true, true, true,
+                List.of(new SimpleGrantedAuthority("ROLE_" + role.name())));
+    }
+
+    public record CachedCollege(Long id, String name, String location, String description,
+            LocalDateTime createdAt) {
+
+        static CachedCollege of(College college) {
+            return new CachedCollege(college.getId(), college.getName(), college.getLocation(),
+                    college.getDescription(), college.getCreatedAt());
+        }
+
+        College toEntity() {
+            return College.builder()
+                    .id(id)
+                    .name(name)
+                    .location(location)
+                    .description(description)
+                    .createdAt(createdAt)
+                    .build();
+        }
+    }
+}
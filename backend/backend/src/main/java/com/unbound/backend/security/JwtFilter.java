@@ -1,11 +1,14 @@
 package com.unbound.backend.security;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -13,13 +16,43 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 @Component
-@RequiredArgsConstructor
+@Slf4j
 public class JwtFilter extends OncePerRequestFilter {
 
+    private static final String NO_TOKEN = "no_token";
+    private static final String INVALID = "invalid";
+    private static final String AUTHENTICATED = "authenticated";
+    private static final String REJECTED = "rejected";
+
     private final JwtUtil jwtUtil;
     private final UserDetailsServiceImpl userDetailsService;
+    private final TokenRevocationService tokenRevocationService;
+    // One timer per outcome, resolved once; this runs on every request
+    private final Map<String, Timer> filterTimers;
+
+    public JwtFilter(JwtUtil jwtUtil, UserDetailsServiceImpl userDetailsService,
+                     TokenRevocationService tokenRevocationService, MeterRegistry meterRegistry) {
+        this.jwtUtil = jwtUtil;
+        this.userDetailsService = userDetailsService;
+        this.tokenRevocationService = tokenRevocationService;
+        this.filterTimers = Map.of(
+                NO_TOKEN, filterTimer(meterRegistry, NO_TOKEN),
+                INVALID, filterTimer(meterRegistry, INVALID),
+                AUTHENTICATED, filterTimer(meterRegistry, AUTHENTICATED),
+                REJECTED, filterTimer(meterRegistry, REJECTED));
+    }
+
+    private static Timer filterTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("unbound.auth.jwt.filter")
+                .tag("outcome", outcome)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -27,34 +60,70 @@ public class JwtFilter extends OncePerRequestFilter {
                                     FilterChain filterChain)
             throws ServletException, IOException {
 
+        // Times only this filter's own work, not the rest of the chain
+        long start = System.nanoTime();
+        String outcome = authenticate(request);
+        filterTimers.get(outcome).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        filterChain.doFilter(request, response);
+    }
+
+    private String authenticate(HttpServletRequest request) {
         final String authHeader = request.getHeader("Authorization");
 
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            filterChain.doFilter(request, response);
-            return;
+            return NO_TOKEN;
         }
 
         final String jwt = authHeader.substring(7);
-        final String userEmail;
+        final VerifiedClaims claims;
 
+        // Single parse: signature and expiry are checked here, the rest reads the immutable result
         try {
-            userEmail = jwtUtil.extractUsername(jwt);
+            claims = jwtUtil.verify(jwt);
         } catch (Exception e) {
-            filterChain.doFilter(request, response);
-            return;
+            return INVALID;
+        }
+
+        if (claims.subject() == null) {
+            return INVALID;
         }
 
-        if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = userDetailsService.loadUserByUsername(userEmail);
-            if (jwtUtil.isTokenValid(jwt, userDetails)) {
-                UsernamePasswordAuthenticationToken authToken =
-                        new UsernamePasswordAuthenticationToken(
-                                userDetails, null, userDetails.getAuthorities());
-                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authToken);
+        if (SecurityContextHolder.getContext().getAuthentication() == null) {
+            UsernamePasswordAuthenticationToken authToken = claims.hasUserClaims()
+                    ? authenticateFromClaims(claims)
+                    : authenticateLegacyToken(claims);
+            if (authToken == null) {
+                return REJECTED;
             }
+            authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            SecurityContextHolder.getContext().setAuthentication(authToken);
         }
+        return AUTHENTICATED;
+    }
 
-        filterChain.doFilter(request, response);
+    // Builds the Authentication from signed claims alone; only the short-TTL revocation check may hit the DB
+    private UsernamePasswordAuthenticationToken authenticateFromClaims(VerifiedClaims claims) {
+        if (!claims.active()) {
+            return null;
+        }
+
+        if (!tokenRevocationService.isTokenCurrent(claims.userId(), claims.role())) {
+            log.debug("Token for user {} is no longer current", claims.userId());
+            return null;
+        }
+
+        AuthenticatedUser principal = new AuthenticatedUser(claims.userId(), claims.subject(), claims.role());
+        return new UsernamePasswordAuthenticationToken(
+                principal, null, List.of(new SimpleGrantedAuthority("ROLE_" + claims.role().name())));
+    }
+
+    // Tokens issued before claims were added — falls back to loading the user until they expire
+    private UsernamePasswordAuthenticationToken authenticateLegacyToken(VerifiedClaims claims) {
+        UserDetails userDetails = userDetailsService.loadUserByUsername(claims.subject());
+        if (!userDetails.isEnabled() || !claims.subject().equals(userDetails.getUsername())) {
+            return null;
+        }
+        return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
     }
 }
@@ -1,12 +1,23 @@
 package com.unbound.backend.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.unbound.backend.entity.User;
+import com.unbound.backend.enums.Role;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
@@ -15,14 +26,30 @@ import java.util.function.Function;
 @Component
 public class JwtUtil {
 
-    @Value("${app.jwt.secret}")
-    private String secret;
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_ROLE = "role";
+    public static final String CLAIM_ACTIVE = "active";
 
-    @Value("${app.jwt.expiration}")
-    private long expiration;
+    private final long expiration;
 
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes());
+    // Built once — key derivation and parser construction are not free per request
+    private final Key signingKey;
+    private final JwtParser parser;
+
+    // SHA-256 of token → verified claims, so hot tokens skip signature verification.
+    // Keyed by hash so raw tokens are never held in memory.
+    private final Cache<ByteBuffer, VerifiedClaims> verifiedTokens;
+
+    public JwtUtil(@Value("${app.jwt.secret}") String secret,
+            @Value("${app.jwt.expiration}") long expiration,
+            @Value("${app.jwt.verified-cache-size:10000}") long verifiedCacheSize) {
+        this.expiration = expiration;
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes());
+        this.parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheSize)
+                .expireAfter(new UntilTokenExpiry())
+                .build();
     }
 
     public String generateToken(UserDetails userDetails) {
@@ -33,27 +60,55 @@ public class JwtUtil {
         return buildToken(extraClaims, userDetails.getUsername());
     }
 
+    // Carries user ID, role and active flag so JwtFilter can authenticate without a DB lookup
+    public String generateToken(User user) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(CLAIM_USER_ID, user.getId());
+        claims.put(CLAIM_ROLE, user.getRole().name());
+        claims.put(CLAIM_ACTIVE, user.isActive());
+        return buildToken(claims, user.getEmail());
+    }
+
     private String buildToken(Map<String, Object> claims, String subject) {
         return Jwts.builder()
                 .setClaims(claims)
                 .setSubject(subject)
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    /**
+     * Verifies the signature and expiry of a token with a single parse.
+     * Throws {@link JwtException} if the token is malformed, tampered with or expired.
+     */
+    public VerifiedClaims verify(String token) {
+        ByteBuffer key = hash(token);
+        VerifiedClaims cached = verifiedTokens.getIfPresent(key);
+        if (cached != null && !cached.isExpired(Instant.now())) {
+            return cached;
+        }
+
+        VerifiedClaims verified = toVerifiedClaims(extractAllClaims(token));
+        if (verified.isExpired(Instant.now())) {
+            throw new ExpiredJwtException(null, null, "Token expired");
+        }
+        verifiedTokens.put(key, verified);
+        return verified;
+    }
+
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return username.equals(userDetails.getUsername()) && !isTokenExpired(token);
+        VerifiedClaims claims = verify(token);
+        return claims.subject().equals(userDetails.getUsername());
     }
 
     public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return verify(token).subject();
     }
 
     public Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+        return Date.from(verify(token).expiresAt());
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
@@ -61,14 +116,47 @@ public class JwtUtil {
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    private VerifiedClaims toVerifiedClaims(Claims claims) {
+        String role = claims.get(CLAIM_ROLE, String.class);
+        return new VerifiedClaims(
+                claims.getSubject(),
+                claims.get(CLAIM_USER_ID, Long.class),
+                role != null ? Role.valueOf(role) : null,
+                Boolean.TRUE.equals(claims.get(CLAIM_ACTIVE, Boolean.class)),
+                claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null);
+    }
+
+    private static ByteBuffer hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return ByteBuffer.wrap(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    // Cached claims never outlive the token itself
+    private static final class UntilTokenExpiry implements Expiry<ByteBuffer, VerifiedClaims> {
+
+        @Override
+        public long expireAfterCreate(ByteBuffer key, VerifiedClaims value, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), value.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, VerifiedClaims value, long currentTime,
+                long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer key, VerifiedClaims value, long currentTime,
+                long currentDuration) {
+            return currentDuration;
+        }
     }
 }
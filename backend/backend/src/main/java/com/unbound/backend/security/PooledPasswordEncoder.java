@@ -0,0 +1,146 @@
+package com.unbound.backend.security;
+
+import com.unbound.backend.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * BCrypt on a dedicated, core-count-sized pool with a bounded queue.
+ * Tomcat threads only park while their own hash runs; once the queue is full
+ * callers get an immediate 503 instead of tying up more workers, so cheap
+ * endpoints keep flowing during a login spike.
+ */
+@Slf4j
+public class PooledPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private static final String CALIBRATION_PASSWORD = "Calibrate@123";
+    private static final int CALIBRATION_ROUNDS = 3;
+
+    private final BCryptPasswordEncoder delegate;
+    private final int strength;
+    private final ThreadPoolExecutor executor;
+    private final Duration waitTimeout;
+    private final Duration maxHashTime;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejections;
+
+    public PooledPasswordEncoder(int strength, int poolSize, int queueCapacity,
+            Duration waitTimeout, Duration maxHashTime, MeterRegistry meterRegistry) {
+        this.delegate = new BCryptPasswordEncoder(strength);
+        this.strength = strength;
+        this.waitTimeout = waitTimeout;
+        this.maxHashTime = maxHashTime;
+
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                task -> {
+                    Thread thread = new Thread(task, "bcrypt-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.encodeTimer = Timer.builder("unbound.auth.password.hash")
+                .tag("operation", "encode")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("unbound.auth.password.hash")
+                .tag("operation", "matches")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rejections = Counter.builder("unbound.auth.password.rejected")
+                .description("Hash requests rejected because the BCrypt queue was full")
+                .register(meterRegistry);
+        Gauge.builder("unbound.auth.password.queue.depth", executor, e -> e.getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder("unbound.auth.password.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+
+        log.info("BCrypt pool started: strength={}, threads={}, queueCapacity={}", strength, threads, queueCapacity);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return runOnPool(() -> encodeTimer.record(() -> delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return runOnPool(() -> matchesTimer.record(() -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T runOnPool(Supplier<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task::get);
+        } catch (RejectedExecutionException e) {
+            rejections.increment();
+            throw busy();
+        }
+
+        try {
+            return future.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejections.increment();
+            throw busy();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw busy();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private ServiceUnavailableException busy() {
+        return new ServiceUnavailableException("Too many sign-in requests right now. Please retry shortly.", 1);
+    }
+
+    // Startup check that the configured cost factor gives a sane hash time on this hardware
+    @EventListener(ApplicationReadyEvent.class)
+    public void calibrate() {
+        delegate.encode(CALIBRATION_PASSWORD); // warm-up, first hash pays for JIT
+        long start = System.nanoTime();
+        for (int i = 0; i < CALIBRATION_ROUNDS; i++) {
+            delegate.encode(CALIBRATION_PASSWORD);
+        }
+        Duration elapsed = Duration.ofNanos((System.nanoTime() - start) / CALIBRATION_ROUNDS);
+
+        if (elapsed.compareTo(maxHashTime) > 0) {
+            log.warn("BCrypt strength {} takes {} ms per hash, above the {} ms budget - "
+                    + "lower app.security.bcrypt.strength or add CPU", strength, elapsed.toMillis(), maxHashTime.toMillis());
+        } else {
+            log.info("BCrypt strength {} calibrated at {} ms per hash", strength, elapsed.toMillis());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,71 @@
+package com.unbound.backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.unbound.backend.datasource.ReadWriteRoutingDataSource;
+import com.unbound.backend.enums.Role;
+import com.unbound.backend.event.UserUpdatedEvent;
+import com.unbound.backend.repository.UserAuthStatus;
+import com.unbound.backend.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Short-TTL check that a token's claims still match the user's account.
+ * The active flag and role are re-read at most once per TTL window per user,
+ * so steady-state authentication costs no queries. Deactivation on this node
+ * takes effect immediately; other nodes pick it up within one TTL. The status is
+ * read from the primary so replica lag cannot extend that window.
+ */
+@Service
+@Slf4j
+public class TokenRevocationService {
+
+    private final UserRepository userRepository;
+    private final Cache<Long, Optional<CachedStatus>> statusCache;
+
+    public TokenRevocationService(UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.jwt.revocation-check-ttl:60s}") Duration ttl,
+            @Value("${app.jwt.revocation-cache-size:100000}") long maxEntries) {
+        this.userRepository = userRepository;
+        this.statusCache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxEntries)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, statusCache, "tokenRevocation");
+    }
+
+    // True if the account is still active and the role in the token is still current
+    public boolean isTokenCurrent(Long userId, Role tokenRole) {
+        Optional<CachedStatus> status = statusCache.get(userId, this::loadStatus);
+        if (status.isEmpty()) {
+            log.debug("Rejecting token for unknown user {}", userId);
+            return false;
+        }
+        return status.get().active() && status.get().role() == tokenRole;
+    }
+
+    // Deactivation or a role change drops the cached status so the next request re-checks
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserUpdated(UserUpdatedEvent event) {
+        statusCache.invalidate(event.userId());
+    }
+
+    private Optional<CachedStatus> loadStatus(Long userId) {
+        return ReadWriteRoutingDataSource.onPrimary(() -> userRepository.findAuthStatusById(userId)
+                .map(s -> new CachedStatus(s.isActive(), s.getRole())));
+    }
+
+    private record CachedStatus(boolean active, Role role) {
+    }
+}
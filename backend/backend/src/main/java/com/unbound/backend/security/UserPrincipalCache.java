@@ -0,0 +1,66 @@
+package com.unbound.backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.unbound.backend.datasource.ReadWriteRoutingDataSource;
+import com.unbound.backend.event.UserUpdatedEvent;
+import com.unbound.backend.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Bounded, expiring cache of users keyed by email, shared by UserDetailsServiceImpl
+ * and UserService.getCurrentUser. Entries are evicted as soon as a UserUpdatedEvent
+ * commits; the TTL only bounds staleness from writes made on other nodes.
+ * Misses read the primary, since most come from the JWT filter before the
+ * request has a principal that read-your-writes routing could pin.
+ */
+@Component
+@Slf4j
+public class UserPrincipalCache {
+
+    private final UserRepository userRepository;
+    private final Cache<String, CachedUser> cache;
+
+    public UserPrincipalCache(UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.security.user-cache.ttl:5m}") Duration ttl,
+            @Value("${app.security.user-cache.max-size:50000}") long maxSize) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "userPrincipals");
+    }
+
+    public Optional<CachedUser> get(String email) {
+        CachedUser cached = cache.getIfPresent(email);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<CachedUser> loaded = ReadWriteRoutingDataSource.onPrimary(
+                () -> userRepository.findByEmailWithCollege(email).map(CachedUser::of));
+        loaded.ifPresent(user -> cache.put(email, user));
+        return loaded;
+    }
+
+    public void invalidate(String email) {
+        cache.invalidate(email);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserUpdated(UserUpdatedEvent event) {
+        log.debug("Evicting cached principal for user {}", event.userId());
+        invalidate(event.email());
+    }
+}
@@ -0,0 +1,22 @@
+package com.unbound.backend.security;
+
+import com.unbound.backend.enums.Role;
+
+import java.time.Instant;
+
+/**
+ * Result of a single signature check on a JWT. Immutable so it can be shared
+ * across requests through the verified-token cache in {@link JwtUtil}.
+ * userId and role are null for tokens issued before those claims existed.
+ */
+public record VerifiedClaims(String subject, Long userId, Role role, boolean active,
+        Instant issuedAt, Instant expiresAt) {
+
+    public boolean isExpired(Instant now) {
+        return expiresAt == null || !expiresAt.isAfter(now);
+    }
+
+    public boolean hasUserClaims() {
+        return userId != null && role != null;
+    }
+}
@@ -8,14 +8,14 @@ import com.unbound.backend.entity.User;
 import com.unbound.backend.exception.BadRequestException;
 import com.unbound.backend.repository.CollegeRepository;
 import com.unbound.backend.repository.UserRepository;
+import com.unbound.backend.security.CachedUser;
 import com.unbound.backend.security.JwtUtil;
+import com.unbound.backend.security.UserPrincipalCache;
 import com.unbound.backend.service.EmailService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -29,7 +29,7 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
     private final AuthenticationManager authenticationManager;
-    private final UserDetailsService userDetailsService;
+    private final UserPrincipalCache userPrincipalCache;
     private final EmailService emailService;
 
     public AuthResponse register(RegisterRequest request) {
@@ -66,8 +66,7 @@ public class AuthService {
             log.warn("Welcome email failed for {}", user.getEmail(), ex);
         }
 
-        UserDetails userDetails = userDetailsService.loadUserByUsername(user.getEmail());
-        String token = jwtUtil.generateToken(userDetails);
+        String token = jwtUtil.generateToken(user);
 
         return AuthResponse.builder()
                 .token(token)
@@ -83,11 +82,12 @@ public class AuthService {
                 new UsernamePasswordAuthenticationToken(
                         request.getEmail(), request.getPassword()));
 
-        User user = userRepository.findByEmail(request.getEmail())
+        // authenticate() just loaded this user through the principal cache
+        User user = userPrincipalCache.get(request.getEmail())
+                .map(CachedUser::toEntity)
                 .orElseThrow(() -> new BadRequestException("User not found"));
 
-        UserDetails userDetails = userDetailsService.loadUserByUsername(user.getEmail());
-        String token = jwtUtil.generateToken(userDetails);
+        String token = jwtUtil.generateToken(user);
 
         return AuthResponse.builder()
                 .token(token)
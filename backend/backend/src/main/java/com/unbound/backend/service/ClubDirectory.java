@@ -0,0 +1,109 @@
+package com.unbound.backend.service;
+
+import com.unbound.backend.datasource.PrimaryReads;
+import com.unbound.backend.dto.response.ClubResponse;
+import com.unbound.backend.entity.Club;
+import com.unbound.backend.enums.ClubStatus;
+import com.unbound.backend.event.ClubChangedEvent;
+import com.unbound.backend.event.UserUpdatedEvent;
+import com.unbound.backend.repository.ClubRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Immutable snapshot of every active club, built from one fetch-joined query.
+ * Writes bump {@code version} after commit; the next read rebuilds once under a
+ * lock and concurrent readers wait for that rebuild instead of each querying.
+ * A rebuild that races an invalidation is tagged with the older version, so the
+ * following read rebuilds again instead of serving stale data. Rebuilds read the
+ * primary: a replica lagging the write would be tagged with the new version.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ClubDirectory {
+
+    private record Entry(Long collegeId, ClubResponse club) {
+    }
+
+    private record Snapshot(long version, List<Entry> entries) {
+    }
+
+    private static final Comparator<Entry> NEWEST_FIRST = Comparator.comparing(
+            (Entry e) -> e.club().getCreatedAt(), Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()));
+
+    private final ClubRepository clubRepository;
+    private final PrimaryReads primaryReads;
+
+    private final AtomicLong version = new AtomicLong();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private volatile Snapshot snapshot;
+
+    public List<ClubResponse> all() {
+        return current().entries().stream().map(Entry::club).toList();
+    }
+
+    public List<ClubResponse> byStatus(ClubStatus status) {
+        return filter(status, null);
+    }
+
+    public List<ClubResponse> filter(ClubStatus status, Long collegeId) {
+        return current().entries().stream()
+                .filter(e -> status == null || e.club().getStatus() == status)
+                .filter(e -> collegeId == null || collegeId.equals(e.collegeId()))
+                .map(Entry::club)
+                .toList();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onClubChanged(ClubChangedEvent event) {
+        version.incrementAndGet();
+    }
+
+    // Owner name/email are part of every entry
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserUpdated(UserUpdatedEvent event) {
+        version.incrementAndGet();
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current != null && current.version() == version.get()) {
+            return current;
+        }
+
+        rebuildLock.lock();
+        try {
+            current = snapshot;
+            long target = version.get();
+            if (current != null && current.version() == target) {
+                return current;
+            }
+
+            List<Entry> entries = primaryReads.read(() -> clubRepository.findAllByIsActiveTrueWithRelations().stream()
+                    .map(club -> new Entry(collegeIdOf(club), ClubService.toResponse(club)))
+                    .sorted(NEWEST_FIRST)
+                    .toList());
+            current = new Snapshot(target, entries);
+            snapshot = current;
+            log.debug("Club directory rebuilt at version {} with {} clubs", target, entries.size());
+            return current;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private static Long collegeIdOf(Club club) {
+        return club.getCollege() != null ? club.getCollege().getId() : null;
+    }
+}
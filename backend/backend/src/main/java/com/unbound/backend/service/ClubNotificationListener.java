@@ -0,0 +1,36 @@
+package com.unbound.backend.service;
+
+import com.unbound.backend.enums.ClubStatus;
+import com.unbound.backend.event.ClubStatusChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ClubNotificationListener {
+
+    private final EmailService emailService;
+
+    // Runs only once the status change is committed, on the notification pool
+    @Async("notificationExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onClubStatusChanged(ClubStatusChangedEvent event) {
+        try {
+            if (event.status() == ClubStatus.APPROVED) {
+                emailService.sendClubApprovalNotification(
+                        event.ownerEmail(), event.ownerName(), event.clubName());
+            } else if (event.status() == ClubStatus.REJECTED) {
+                emailService.sendClubRejectionNotification(
+                        event.ownerEmail(), event.ownerName(), event.clubName(), event.rejectionReason());
+            }
+        } catch (Exception ex) {
+            log.error("Club {} email notification failed for club {}",
+                    event.status().name().toLowerCase(), event.clubId(), ex);
+        }
+    }
+}
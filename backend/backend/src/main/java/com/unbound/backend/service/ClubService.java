@@ -10,16 +10,23 @@ import com.unbound.backend.entity.Club;
 import com.unbound.backend.entity.User;
 import com.unbound.backend.enums.ClubStatus;
 import com.unbound.backend.enums.Role;
+import com.unbound.backend.event.ClubChangedEvent;
+import com.unbound.backend.event.ClubStatusChangedEvent;
 import com.unbound.backend.exception.BadRequestException;
 import com.unbound.backend.exception.ResourceNotFoundException;
 import com.unbound.backend.repository.ClubRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,12 +35,14 @@ import java.util.stream.Collectors;
 public class ClubService {
 
     private final ClubRepository clubRepository;
+    private final ClubDirectory clubDirectory;
+    private final ClubStatisticsCache clubStatisticsCache;
     private final UserService userService;
-    private final EmailService emailService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // ─── Helpers ────────────────────────────────────────────────────────────────
 
-    private ClubResponse toResponse(Club club) {
+    static ClubResponse toResponse(Club club) {
         return ClubResponse.builder()
                 .id(club.getId())
                 .name(club.getName())
@@ -59,11 +68,24 @@ public class ClubService {
                 .orElseThrow(() -> new ResourceNotFoundException("Club not found with id: " + id));
     }
 
+    // Owner email goes out after commit on the notification pool — see ClubNotificationListener.
+    // Also marks the ClubDirectory snapshot stale.
+    private void publishStatusChange(Club club, ClubStatus status, String rejectionReason) {
+        eventPublisher.publishEvent(new ClubChangedEvent(club.getId(), club.getName(), status, club.isActive()));
+        eventPublisher.publishEvent(new ClubStatusChangedEvent(
+                club.getId(),
+                club.getName(),
+                club.getCreatedBy().getEmail(),
+                club.getCreatedBy().getName(),
+                status,
+                rejectionReason));
+    }
+
     // ─── CLUB_ADMIN operations ───────────────────────────────────────────────────
 
     @Transactional
     public ClubResponse createClub(ClubRequest request) {
-        User currentUser = userService.getCurrentUser();
+        User currentUser = userService.getCurrentUserForUpdate();
 
         log.info("User {} attempting to create club: {}", currentUser.getId(), request.getName());
 
@@ -93,6 +115,8 @@ public class ClubService {
                 .build();
 
         Club savedClub = clubRepository.save(club);
+        eventPublisher.publishEvent(new ClubChangedEvent(
+                savedClub.getId(), savedClub.getName(), savedClub.getStatus(), savedClub.isActive()));
         log.info("Club created successfully. ID: {}, Name: {}, Status: PENDING", 
                 savedClub.getId(), savedClub.getName());
 
@@ -101,7 +125,7 @@ public class ClubService {
 
     @Transactional
     public ClubResponse updateClub(Long id, ClubRequest request) {
-        User currentUser = userService.getCurrentUser();
+        User currentUser = userService.getCurrentUserForUpdate();
         Club club = getActiveClubById(id);
 
         log.info("User {} attempting to update club {}", currentUser.getId(), id);
@@ -112,7 +136,8 @@ public class ClubService {
             log.warn("Unauthorized update attempt by user {} for club {}", currentUser.getId(), id);
             throw new BadRequestException("You are not authorized to edit this club");
         }
-        if (!club.getName().equals(request.getName()) && clubRepository.existsByName(request.getName())) {
+        if (!club.getName().equals(request.getName())
+                && clubRepository.existsByName(request.getName())) {
             throw new BadRequestException("A club with this name already exists");
         }
         if (!club.getContactEmail().equals(request.getContactEmail())
@@ -127,6 +152,8 @@ public class ClubService {
         club.setContactEmail(request.getContactEmail());
 
         Club updatedClub = clubRepository.save(club);
+        eventPublisher.publishEvent(new ClubChangedEvent(
+                id, updatedClub.getName(), updatedClub.getStatus(), updatedClub.isActive()));
         log.info("Club {} updated successfully", id);
 
         return toResponse(updatedClub);
@@ -136,56 +163,43 @@ public class ClubService {
 
     @Transactional(readOnly = true)
     public List<ClubResponse> getAllApprovedClubs() {
-        return clubRepository.findAllByStatusAndIsActiveTrueOrderByCreatedAtDesc(ClubStatus.APPROVED)
-                .stream().map(this::toResponse).collect(Collectors.toList());
+        return clubDirectory.byStatus(ClubStatus.APPROVED);
     }
 
     @Transactional(readOnly = true)
     public ClubResponse getClubById(Long id) {
-        return toResponse(getActiveClubById(id));
+        return toResponse(clubRepository.findByIdWithRelations(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Club not found with id: " + id)));
     }
 
     // ─── Admin operations ────────────────────────────────────────────────────────
 
     @Transactional(readOnly = true)
     public List<ClubResponse> getAllClubsForAdmin() {
-        return clubRepository.findAllByIsActiveTrue()
-                .stream().map(this::toResponse).collect(Collectors.toList());
+        return clubDirectory.all();
     }
 
     @Transactional(readOnly = true)
     public List<ClubResponse> getClubsByStatus(ClubStatus status) {
         log.info("Fetching clubs with status: {}", status);
-        return clubRepository.findAllByStatusAndIsActiveTrueOrderByCreatedAtDesc(status)
-                .stream().map(this::toResponse).collect(Collectors.toList());
+        return clubDirectory.byStatus(status);
     }
 
     @Transactional(readOnly = true)
     public List<ClubResponse> filterClubs(ClubStatus status, Long collegeId) {
         log.info("Filtering clubs - Status: {}, CollegeId: {}", status, collegeId);
-        return clubRepository.filterClubs(status, collegeId)
-                .stream().map(this::toResponse).collect(Collectors.toList());
+        return clubDirectory.filter(status, collegeId);
     }
 
     @Transactional(readOnly = true)
-    public ClubStatisticsResponse getClubStatistics() {
-        User currentUser = userService.getCurrentUser();
-        
-        int total = clubRepository.findAllByIsActiveTrue().size();
-        int pending = clubRepository.countByStatus(ClubStatus.PENDING);
-        int approved = clubRepository.countByStatus(ClubStatus.APPROVED);
-        int rejected = clubRepository.countByStatus(ClubStatus.REJECTED);
-
-        log.info("Club statistics - Total: {}, Pending: {}, Approved: {}, Rejected: {}", 
-                total, pending, approved, rejected);
-
-        return ClubStatisticsResponse.builder()
-                .totalClubs(total)
-                .pendingClubs(pending)
-                .approvedClubs(approved)
-                .rejectedClubs(rejected)
-                .activeClubs(total)
-                .build();
+    public ClubStatisticsResponse getClubStatistics(Long collegeId) {
+        ClubStatisticsResponse statistics = clubStatisticsCache.get(collegeId);
+
+        log.info("Club statistics (college {}) - Total: {}, Pending: {}, Approved: {}, Rejected: {}", 
+                collegeId, statistics.getTotalClubs(), statistics.getPendingClubs(),
+                statistics.getApprovedClubs(), statistics.getRejectedClubs());
+
+        return statistics;
     }
 
     @Transactional
@@ -204,16 +218,8 @@ public class ClubService {
         Club updatedClub = clubRepository.save(club);
         
         log.info("Club {} approved successfully", id);
+        publishStatusChange(updatedClub, updatedClub.getStatus(), updatedClub.getRejectionReason());
 
-        try {
-            emailService.sendClubApprovalNotification(
-                    updatedClub.getCreatedBy().getEmail(),
-                    updatedClub.getCreatedBy().getName(),
-                    updatedClub.getName());
-        } catch (Exception ex) {
-            log.error("Club approval email failed for club {}", updatedClub.getId(), ex);
-        }
-        
         return toResponse(updatedClub);
     }
 
@@ -236,89 +242,56 @@ public class ClubService {
         Club updatedClub = clubRepository.save(club);
         
         log.info("Club {} rejected with reason: {}", id, request.getRejectionReason());
+        publishStatusChange(updatedClub, updatedClub.getStatus(), updatedClub.getRejectionReason());
 
-        try {
-            emailService.sendClubRejectionNotification(
-                    updatedClub.getCreatedBy().getEmail(),
-                    updatedClub.getCreatedBy().getName(),
-                    updatedClub.getName(),
-                    updatedClub.getRejectionReason());
-        } catch (Exception ex) {
-            log.error("Club rejection email failed for club {}", updatedClub.getId(), ex);
-        }
-        
         return toResponse(updatedClub);
     }
 
+    // Set-based: one SELECT for every target, one UPDATE for the transition, owner emails after commit.
+    // Outcomes and messages are still decided per id in request order.
     @Transactional
     public BulkActionResponse bulkApproveOrReject(BulkClubActionRequest request) {
         log.info("Bulk {} action for {} clubs", request.getAction(), request.getClubIds().size());
 
+        boolean approve = request.getAction() == BulkClubActionRequest.BulkAction.APPROVE;
+        ClubStatus targetStatus = approve ? ClubStatus.APPROVED : ClubStatus.REJECTED;
+        String rejectionReason = approve ? null : request.getRejectionReason();
+        boolean reasonMissing = !approve && (rejectionReason == null || rejectionReason.isBlank());
+
+        Map<Long, Club> clubsById = clubRepository.findAllByIdInWithRelations(request.getClubIds())
+                .stream().collect(Collectors.toMap(Club::getId, Function.identity()));
+
         List<Long> successfulIds = new ArrayList<>();
         List<Long> failedIds = new ArrayList<>();
         List<String> errors = new ArrayList<>();
+        Map<Long, Club> transitioned = new LinkedHashMap<>();
 
         for (Long clubId : request.getClubIds()) {
-            try {
-                Club club = getActiveClubById(clubId);
-
-                if (request.getAction() == BulkClubActionRequest.BulkAction.APPROVE) {
-                    if (club.getStatus() != ClubStatus.APPROVED) {
-                        club.setStatus(ClubStatus.APPROVED);
-                        club.setRejectionReason(null);
-                        clubRepository.save(club);
-                        
-                        try {
-                            emailService.sendClubApprovalNotification(
-                                    club.getCreatedBy().getEmail(),
-                                    club.getCreatedBy().getName(),
-                                    club.getName());
-                        } catch (Exception ex) {
-                            log.error("Email notification failed for club {}", clubId, ex);
-                        }
-                        
-                        successfulIds.add(clubId);
-                        log.info("Club {} approved in bulk action", clubId);
-                    } else {
-                        failedIds.add(clubId);
-                        errors.add("Club " + clubId + " is already approved");
-                    }
-                } else if (request.getAction() == BulkClubActionRequest.BulkAction.REJECT) {
-                    if (request.getRejectionReason() == null || request.getRejectionReason().isBlank()) {
-                        failedIds.add(clubId);
-                        errors.add("Rejection reason is required for club " + clubId);
-                        continue;
-                    }
-                    
-                    if (club.getStatus() != ClubStatus.REJECTED) {
-                        club.setStatus(ClubStatus.REJECTED);
-                        club.setRejectionReason(request.getRejectionReason());
-                        clubRepository.save(club);
-                        
-                        try {
-                            emailService.sendClubRejectionNotification(
-                                    club.getCreatedBy().getEmail(),
-                                    club.getCreatedBy().getName(),
-                                    club.getName(),
-                                    club.getRejectionReason());
-                        } catch (Exception ex) {
-                            log.error("Email notification failed for club {}", clubId, ex);
-                        }
-                        
-                        successfulIds.add(clubId);
-                        log.info("Club {} rejected in bulk action", clubId);
-                    } else {
-                        failedIds.add(clubId);
-                        errors.add("Club " + clubId + " is already rejected");
-                    }
-                }
-            } catch (Exception e) {
+            Club club = clubsById.get(clubId);
+
+            if (club == null) {
                 failedIds.add(clubId);
-                errors.add("Club " + clubId + ": " + e.getMessage());
-                log.error("Bulk action failed for club {}", clubId, e);
+                errors.add("Club " + clubId + ": Club not found with id: " + clubId);
+                log.warn("Bulk action failed for club {}: not found", clubId);
+            } else if (reasonMissing) {
+                failedIds.add(clubId);
+                errors.add("Rejection reason is required for club " + clubId);
+            } else if (club.getStatus() == targetStatus || transitioned.containsKey(clubId)) {
+                // A repeated id sees the transition made earlier in this batch
+                failedIds.add(clubId);
+                errors.add("Club " + clubId + " is already " + targetStatus.name().toLowerCase());
+            } else {
+                transitioned.put(clubId, club);
+                successfulIds.add(clubId);
             }
         }
 
+        if (!transitioned.isEmpty()) {
+            transitioned.values().forEach(club -> publishStatusChange(club, targetStatus, rejectionReason));
+            clubRepository.updateStatusForIds(transitioned.keySet(), targetStatus, rejectionReason, LocalDateTime.now());
+            log.info("Clubs {} {} in bulk action", transitioned.keySet(), targetStatus.name().toLowerCase());
+        }
+
         log.info("Bulk action completed - Success: {}, Failed: {}", 
                 successfulIds.size(), failedIds.size());
 
@@ -337,6 +310,7 @@ public class ClubService {
         log.info("Soft deleting club: {} (ID: {})", club.getName(), id);
         club.setActive(false);
         clubRepository.save(club);
+        eventPublisher.publishEvent(new ClubChangedEvent(id, club.getName(), club.getStatus(), false));
         log.info("Club {} deactivated successfully", id);
     }
 }
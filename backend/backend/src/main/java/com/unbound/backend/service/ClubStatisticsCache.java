@@ -0,0 +1,79 @@
+package com.unbound.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.unbound.backend.datasource.PrimaryReads;
+import com.unbound.backend.dto.response.ClubStatisticsResponse;
+import com.unbound.backend.event.ClubChangedEvent;
+import com.unbound.backend.repository.ClubRepository;
+import com.unbound.backend.repository.ClubStatusCount;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * Club counts for the admin dashboard, one GROUP BY query per college scope.
+ * Dashboards poll, so results are held for a short TTL and dropped when a club changes.
+ */
+@Component
+public class ClubStatisticsCache {
+
+    private static final long ALL_COLLEGES = -1L;
+
+    private final ClubRepository clubRepository;
+    private final PrimaryReads primaryReads;
+    private final Cache<Long, ClubStatisticsResponse> cache;
+
+    public ClubStatisticsCache(ClubRepository clubRepository,
+            PrimaryReads primaryReads,
+            MeterRegistry meterRegistry,
+            @Value("${app.clubs.statistics-ttl:30s}") Duration ttl) {
+        this.clubRepository = clubRepository;
+        this.primaryReads = primaryReads;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(1_000)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "clubStatistics");
+    }
+
+    public ClubStatisticsResponse get(Long collegeId) {
+        return cache.get(collegeId != null ? collegeId : ALL_COLLEGES, key -> primaryReads.read(() -> load(collegeId)));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onClubChanged(ClubChangedEvent event) {
+        cache.invalidateAll();
+    }
+
+    // total/active count active clubs; per-status counts include deactivated clubs, as they always have
+    private ClubStatisticsResponse load(Long collegeId) {
+        int active = 0, pending = 0, approved = 0, rejected = 0;
+
+        for (ClubStatusCount row : clubRepository.countByStatusAndActive(collegeId)) {
+            int count = Math.toIntExact(row.getTotal());
+            if (row.isActive()) {
+                active += count;
+            }
+            switch (row.getStatus()) {
+                case PENDING -> pending += count;
+                case APPROVED -> approved += count;
+                case REJECTED -> rejected += count;
+            }
+        }
+
+        return ClubStatisticsResponse.builder()
+                .totalClubs(active)
+                .pendingClubs(pending)
+                .approvedClubs(approved)
+                .rejectedClubs(rejected)
+                .activeClubs(active)
+                .build();
+    }
+}
@@ -0,0 +1,198 @@
+package com.unbound.backend.service;
+
+import com.unbound.backend.entity.Event;
+import com.unbound.backend.entity.User;
+import com.unbound.backend.enums.PaymentStatus;
+import com.unbound.backend.enums.Role;
+import com.unbound.backend.exception.BadRequestException;
+import com.unbound.backend.exception.ResourceNotFoundException;
+import com.unbound.backend.repository.EventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CSV downloads written row by row from a forward-only JDBC cursor, so memory stays
+ * flat however many rows there are. No entities are loaded. The read-only transaction
+ * matters: Postgres only honours the fetch size (a server-side cursor) with autocommit
+ * off, and otherwise sends the whole result set at once.
+ */
+@Service
+@Slf4j
+public class CsvExportService {
+
+    private static final String REGISTRATIONS_SQL = """
+            SELECT r.id, u.id, u.name, u.email, r.status, r.registration_date
+            FROM registrations r
+            JOIN users u ON u.id = r.user_id
+            WHERE r.event_id = ?
+            ORDER BY r.id
+            """;
+
+    private static final String PAYMENTS_SQL = """
+            SELECT p.id, p.user_id, u.name, u.email, p.event_id, e.title, p.amount, p.status,
+                   p.razorpay_order_id, p.razorpay_payment_id, p.failure_reason, p.created_at, p.updated_at
+            FROM payments p
+            JOIN users u ON u.id = p.user_id
+            JOIN events e ON e.id = p.event_id
+            """;
+
+    // Opened only once the request is known to be valid, so errors still get a JSON body
+    @FunctionalInterface
+    public interface CsvTarget {
+        Writer open() throws IOException;
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EventRepository eventRepository;
+    private final UserService userService;
+    private final int fetchSize;
+
+    public CsvExportService(JdbcTemplate jdbcTemplate,
+                            EventRepository eventRepository,
+                            UserService userService,
+                            @Value("${app.export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventRepository = eventRepository;
+        this.userService = userService;
+        this.fetchSize = fetchSize;
+    }
+
+    // GET /api/registrations/event/{eventId}/export.csv — same columns as RegistrationResponse
+    @Transactional(readOnly = true)
+    public long exportEventRegistrations(Long eventId, CsvTarget target) {
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new ResourceNotFoundException("Event not found with id: " + eventId));
+        User currentUser = userService.getCurrentUser();
+
+        // A club admin only exports their own club's attendees
+        if (!event.getClub().getCreatedBy().getId().equals(currentUser.getId())
+                && currentUser.getRole() != Role.COLLEGE_ADMIN
+                && currentUser.getRole() != Role.SUPER_ADMIN) {
+            log.warn("Unauthorized export attempt by user {} for event {}", currentUser.getId(), eventId);
+            throw new BadRequestException("You are not authorized to export registrations for this event");
+        }
+        return stream(REGISTRATIONS_SQL, List.of(eventId), target,
+                "registration_id", "user_id", "name", "email", "status", "registered_at");
+    }
+
+    // GET /api/payments/admin/export.csv — same filters as /api/payments/admin/filter
+    @Transactional(readOnly = true)
+    public long exportPayments(Long userId, Long eventId, PaymentStatus status,
+                               LocalDateTime startDate, LocalDateTime endDate, CsvTarget target) {
+        // Only the filters actually given go into the WHERE clause; "? IS NULL OR ..." would
+        // need typed nulls on Postgres and keeps the planner off the indexes
+        StringBuilder sql = new StringBuilder(PAYMENTS_SQL);
+        List<Object> params = new ArrayList<>();
+        String joiner = "WHERE ";
+        if (userId != null) {
+            sql.append(joiner).append("p.user_id = ? ");
+            params.add(userId);
+            joiner = "AND ";
+        }
+        if (eventId != null) {
+            sql.append(joiner).append("p.event_id = ? ");
+            params.add(eventId);
+            joiner = "AND ";
+        }
+        if (status != null) {
+            sql.append(joiner).append("p.status = ? ");
+            params.add(status.name());
+            joiner = "AND ";
+        }
+        if (startDate != null) {
+            sql.append(joiner).append("p.created_at >= ? ");
+            params.add(Timestamp.valueOf(startDate));
+            joiner = "AND ";
+        }
+        if (endDate != null) {
+            sql.append(joiner).append("p.created_at <= ? ");
+            params.add(Timestamp.valueOf(endDate));
+        }
+        sql.append("ORDER BY p.created_at DESC, p.id DESC");
+
+        return stream(sql.toString(), params, target,
+                "payment_id", "user_id", "user_name", "user_email", "event_id", "event_title", "amount", "status",
+                "razorpay_order_id", "razorpay_payment_id", "failure_reason", "created_at", "updated_at");
+    }
+
+    private long stream(String sql, List<Object> params, CsvTarget target, String... header) {
+        long[] rows = {0};
+        try {
+            Writer out = target.open();
+            writeRow(out, header);
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                        sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(fetchSize);
+                for (int i = 0; i < params.size(); i++) {
+                    statement.setObject(i + 1, params.get(i));
+                }
+                return statement;
+            }, (ResultSet rs) -> {
+                writeRow(out, rs);
+                rows[0]++;
+            });
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        log.info("CSV export streamed {} rows", rows[0]);
+        return rows[0];
+    }
+
+    private static void writeRow(Writer out, ResultSet rs) throws SQLException {
+        ResultSetMetaData meta = rs.getMetaData();
+        String[] values = new String[meta.getColumnCount()];
+        for (int i = 0; i < values.length; i++) {
+            Object value = rs.getObject(i + 1);
+            values[i] = value instanceof Timestamp ts ? ts.toLocalDateTime().toString()
+                    : value == null ? "" : value.toString();
+        }
+        try {
+            writeRow(out, values);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeRow(Writer out, String... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            out.write(escape(values[i]));
+        }
+        out.write("\r\n");
+    }
+
+    // RFC 4180 quoting. Cells starting with = + - @ are prefixed with ' so a spreadsheet
+    // does not evaluate user-supplied names as formulas
+    static String escape(String value) {
+        if (value.isEmpty()) {
+            return value;
+        }
+        char first = value.charAt(0);
+        if (first == '=' || first == '+' || first == '-' || first == '@') {
+            value = "'" + value;
+        }
+        if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+        return value;
+    }
+}
@@ -1,9 +1,13 @@
 package com.unbound.backend.service;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 public interface EmailService {
 
+    record Recipient(String email, String name) {
+    }
+
     void sendWelcomeEmail(String recipientEmail, String recipientName);
 
     void sendEventRegistrationConfirmation(String recipientEmail, String recipientName,
@@ -28,4 +32,8 @@ public interface EmailService {
 
     void sendPaymentFailureNotification(String recipientEmail, String recipientName,
             String paymentReference, String failureReason);
+
+    // One message per recipient, sent together as a batch
+    void sendEventReminders(List<Recipient> recipients, String eventTitle,
+            LocalDateTime eventDate, String venue, String startsIn);
 }
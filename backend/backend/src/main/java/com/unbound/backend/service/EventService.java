@@ -7,6 +7,7 @@ import com.unbound.backend.entity.Event;
 import com.unbound.backend.entity.Fest;
 import com.unbound.backend.enums.EventCategory;
 import com.unbound.backend.enums.EventStatus;
+import com.unbound.backend.event.EventChangedEvent;
 import com.unbound.backend.exception.BadRequestException;
 import com.unbound.backend.exception.ResourceNotFoundException;
 import com.unbound.backend.repository.ClubRepository;
@@ -16,6 +17,7 @@ import com.unbound.backend.repository.RegistrationRepository;
 import com.unbound.backend.service.EmailService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -32,9 +34,15 @@ public class EventService {
     private final ClubRepository clubRepository;
     private final RegistrationRepository registrationRepository;
     private final EmailService emailService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final VenueScheduleIndex venueScheduleIndex;
 
     public EventResponse toResponse(Event event) {
-        int currentRegistrations = registrationRepository.countByEvent(event);
+        return toResponse(event, registrationRepository.countByEvent(event));
+    }
+
+    // For callers that already batch-loaded the registration count
+    public EventResponse toResponse(Event event, int currentRegistrations) {
         return EventResponse.builder()
                 .id(event.getId())
                 .title(event.getTitle())
@@ -42,12 +50,14 @@ public class EventService {
                 .bannerUrl(event.getBannerUrl())
                 .venue(event.getVenue())
                 .eventDate(event.getEventDate())
+                .durationMinutes(event.getDurationMinutes())
                 .maxParticipants(event.getMaxParticipants())
                 .currentRegistrations(currentRegistrations)
                 .feeAmount(event.getFeeAmount())
                 .isPaid(event.getFeeAmount() != null && event.getFeeAmount() > 0)
                 .category(event.getCategory())
                 .status(event.getStatus())
+                .registrationOpen(event.isRegistrationOpen())
                 .festId(event.getFest() != null ? event.getFest().getId() : null)
                 .festName(event.getFest() != null ? event.getFest().getName() : null)
                 .clubId(event.getClub().getId())
@@ -57,6 +67,19 @@ public class EventService {
                 .build();
     }
 
+    private Event saveAndPublish(Event event) {
+        Event saved = eventRepository.save(event);
+        eventPublisher.publishEvent(EventChangedEvent.saved(saved));
+        return saved;
+    }
+
+    private EventResponse withConflicts(EventResponse response, List<Long> venueConflicts) {
+        if (!venueConflicts.isEmpty()) {
+            response.setVenueConflicts(venueConflicts);
+        }
+        return response;
+    }
+
     private Fest getFest(Long festId) {
         return festRepository.findById(festId)
                 .orElseThrow(() -> new ResourceNotFoundException("Fest not found with id: " + festId));
@@ -78,6 +101,7 @@ public class EventService {
                 .bannerUrl(request.getBannerUrl())
                 .venue(request.getVenue())
                 .eventDate(request.getEventDate())
+                .durationMinutes(request.getDurationMinutes())
                 .maxParticipants(request.getMaxParticipants())
                 .category(request.getCategory())
                 .feeAmount(request.getFeeAmount())
@@ -86,7 +110,8 @@ public class EventService {
                 .club(club)
                 .build();
 
-        return toResponse(eventRepository.save(event));
+        List<Long> venueConflicts = venueScheduleIndex.check(null, event.getVenue(), event.getEventDate(), event.getEndTime());
+        return withConflicts(toResponse(saveAndPublish(event)), venueConflicts);
     }
 
     // GET /api/events with optional filters
@@ -132,13 +157,17 @@ public class EventService {
         event.setBannerUrl(request.getBannerUrl());
         event.setVenue(request.getVenue());
         event.setEventDate(request.getEventDate());
+        event.setDurationMinutes(request.getDurationMinutes());
         event.setMaxParticipants(request.getMaxParticipants());
         event.setCategory(request.getCategory());
         event.setFeeAmount(request.getFeeAmount());
         event.setFest(request.getFestId() != null ? getFest(request.getFestId()) : null);
         event.setClub(getClub(request.getClubId()));
 
-        return toResponse(eventRepository.save(event));
+        List<Long> venueConflicts = event.getStatus() == EventStatus.CANCELLED || event.getStatus() == EventStatus.COMPLETED
+                ? List.of()
+                : venueScheduleIndex.check(id, event.getVenue(), event.getEventDate(), event.getEndTime());
+        return withConflicts(toResponse(saveAndPublish(event)), venueConflicts);
     }
 
     // PATCH /api/events/{id}/publish
@@ -149,7 +178,7 @@ public class EventService {
             throw new BadRequestException("Event is already published");
         }
         event.setStatus(EventStatus.PUBLISHED);
-        Event updatedEvent = eventRepository.save(event);
+        Event updatedEvent = saveAndPublish(event);
         try {
             emailService.sendEventPublishedNotification(
                     updatedEvent.getClub().getCreatedBy().getEmail(),
@@ -170,7 +199,7 @@ public class EventService {
             throw new BadRequestException("Event is already cancelled");
         }
         event.setStatus(EventStatus.CANCELLED);
-        Event updatedEvent = eventRepository.save(event);
+        Event updatedEvent = saveAndPublish(event);
         try {
             emailService.sendEventCancelledNotification(
                     updatedEvent.getClub().getCreatedBy().getEmail(),
@@ -189,5 +218,6 @@ public class EventService {
         Event event = eventRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Event not found with id: " + id));
         eventRepository.delete(event);
+        eventPublisher.publishEvent(EventChangedEvent.deleted(event));
     }
 }
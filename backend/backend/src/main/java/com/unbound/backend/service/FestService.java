@@ -1,17 +1,34 @@
 package com.unbound.backend.service;
 
 import com.unbound.backend.dto.request.FestRequest;
+import com.unbound.backend.dto.response.ClubSummary;
+import com.unbound.backend.dto.response.EventResponse;
+import com.unbound.backend.dto.response.FestOverviewResponse;
 import com.unbound.backend.dto.response.FestResponse;
+import com.unbound.backend.entity.Club;
 import com.unbound.backend.entity.College;
+import com.unbound.backend.entity.Event;
 import com.unbound.backend.entity.Fest;
+import com.unbound.backend.enums.EventStatus;
 import com.unbound.backend.exception.BadRequestException;
 import com.unbound.backend.exception.ResourceNotFoundException;
+import com.unbound.backend.repository.ClubRepository;
 import com.unbound.backend.repository.CollegeRepository;
+import com.unbound.backend.repository.EventRegistrationCount;
+import com.unbound.backend.repository.EventRepository;
 import com.unbound.backend.repository.FestRepository;
+import com.unbound.backend.repository.RegistrationRepository;
+import com.unbound.backend.util.BatchLoader;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -20,6 +37,10 @@ public class FestService {
 
     private final FestRepository festRepository;
     private final CollegeRepository collegeRepository;
+    private final EventRepository eventRepository;
+    private final ClubRepository clubRepository;
+    private final RegistrationRepository registrationRepository;
+    private final EventService eventService;
 
     private FestResponse toResponse(Fest fest) {
         return FestResponse.builder()
@@ -72,10 +93,54 @@ public class FestService {
 
     // GET /api/fests/{id}
     public FestResponse getFestById(Long id) {
-        return toResponse(festRepository.findById(id)
+        return toResponse(festRepository.findByIdWithCollege(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Fest not found with id: " + id)));
     }
 
+    // GET /api/fests/{id}/overview
+    // Four queries whatever the event count: fest + college, published events, their clubs, seat counts
+    @Transactional(readOnly = true)
+    public FestOverviewResponse getFestOverview(Long id) {
+        Fest fest = festRepository.findByIdWithCollege(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Fest not found with id: " + id));
+        List<Event> events = eventRepository.findAllByFestAndStatus(fest, EventStatus.PUBLISHED);
+
+        BatchLoader<Long, Club> clubs = new BatchLoader<>(ids -> clubRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Club::getId, Function.identity())));
+        BatchLoader<Long, Integer> seatCounts = new BatchLoader<>(ids -> registrationRepository.countByEventIds(ids)
+                .stream().collect(Collectors.toMap(EventRegistrationCount::getEventId, c -> Math.toIntExact(c.getTotal()))));
+
+        // Club proxies on the events resolve from the persistence context once the batch has loaded them
+        Map<Long, Supplier<Club>> clubByEvent = new LinkedHashMap<>();
+        Map<Long, Supplier<Integer>> countByEvent = new LinkedHashMap<>();
+        for (Event event : events) {
+            clubByEvent.put(event.getId(), clubs.load(event.getClub().getId()));
+            countByEvent.put(event.getId(), seatCounts.load(event.getId()));
+        }
+
+        List<EventResponse> eventResponses = new ArrayList<>(events.size());
+        Map<Long, ClubSummary> clubSummaries = new LinkedHashMap<>();
+        for (Event event : events) {
+            Club club = clubByEvent.get(event.getId()).get();
+            Integer count = countByEvent.get(event.getId()).get();
+            eventResponses.add(eventService.toResponse(event, count != null ? count : 0));
+
+            ClubSummary summary = clubSummaries.computeIfAbsent(club.getId(), clubId -> ClubSummary.builder()
+                    .id(clubId)
+                    .name(club.getName())
+                    .logoUrl(club.getLogoUrl())
+                    .category(club.getCategory())
+                    .build());
+            summary.setEventCount(summary.getEventCount() + 1);
+        }
+
+        return FestOverviewResponse.builder()
+                .fest(toResponse(fest))
+                .events(eventResponses)
+                .clubs(new ArrayList<>(clubSummaries.values()))
+                .build();
+    }
+
     // GET /api/fests/college/{collegeId}
     public List<FestResponse> getFestsByCollege(Long collegeId) {
         College college = getCollege(collegeId);
@@ -10,8 +10,9 @@ import com.unbound.backend.dto.response.PaymentStatisticsResponse;
 import com.unbound.backend.dto.response.UserPaymentSummaryResponse;
 import com.unbound.backend.entity.Event;
 import com.unbound.backend.entity.Payment;
-import com.unbound.backend.entity.Registration;
+import com.unbound.backend.entity.SeatHold;
 import com.unbound.backend.entity.User;
+import com.unbound.backend.enums.EventStatus;
 import com.unbound.backend.enums.PaymentStatus;
 import com.unbound.backend.enums.RegistrationStatus;
 import com.unbound.backend.exception.BadRequestException;
@@ -19,6 +20,9 @@ import com.unbound.backend.exception.ResourceNotFoundException;
 import com.unbound.backend.repository.EventRepository;
 import com.unbound.backend.repository.PaymentRepository;
 import com.unbound.backend.repository.RegistrationRepository;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.json.JSONObject;
@@ -45,6 +49,8 @@ public class PaymentService {
     private final EventRepository eventRepository;
     private final RegistrationRepository registrationRepository;
     private final UserService userService;
+    private final SeatHoldService seatHoldService;
+    private final MeterRegistry meterRegistry;
 
     @Value("${razorpay.key.id}")
     private String razorpayKeyId;
@@ -68,7 +74,7 @@ public class PaymentService {
                 .build();
     }
 
-    private PaymentHistoryResponse toHistoryResponse(Payment payment) {
+    PaymentHistoryResponse toHistoryResponse(Payment payment) {
         return PaymentHistoryResponse.builder()
                 .id(payment.getId())
                 .eventId(payment.getEvent().getId())
@@ -87,8 +93,9 @@ public class PaymentService {
 
     // POST /api/payments/create-order/{eventId}
     @Transactional
+    @Timed(value = "unbound.payment", extraTags = { "operation", "create_order" }, percentiles = { 0.5, 0.95, 0.99 })
     public PaymentResponse createOrder(Long eventId) {
-        User currentUser = userService.getCurrentUser();
+        User currentUser = userService.getCurrentUserForUpdate();
 
         log.info("User {} creating payment order for event {}", currentUser.getId(), eventId);
 
@@ -99,6 +106,18 @@ public class PaymentService {
             log.warn("Payment attempt for free event {}", eventId);
             throw new BadRequestException("This event is free. No payment required.");
         }
+        if (event.getStatus() != EventStatus.PUBLISHED) {
+            throw new BadRequestException("Event is not open for registration");
+        }
+        if (!event.isRegistrationOpen()) {
+            throw new BadRequestException("Registration for this event has closed");
+        }
+        if (registrationRepository.findByUserAndEvent(currentUser, event)
+                .filter(reg -> reg.getStatus() == RegistrationStatus.CONFIRMED).isPresent()) {
+            throw new BadRequestException("You are already registered for this event");
+        }
+        // Locks the event and throws if it is full, before an order exists at Razorpay
+        seatHoldService.reserve(currentUser, eventId);
 
         try {
             RazorpayClient client = new RazorpayClient(razorpayKeyId, razorpayKeySecret);
@@ -108,7 +127,17 @@ public class PaymentService {
             orderRequest.put("currency", "INR");
             orderRequest.put("receipt", "receipt_event_" + eventId + "_user_" + currentUser.getId());
 
-            Order razorpayOrder = client.orders.create(orderRequest);
+            // The Razorpay round trip, separate from our own DB work in the same call
+            Timer.Sample razorpayCall = Timer.start(meterRegistry);
+            Order razorpayOrder;
+            try {
+                razorpayOrder = client.orders.create(orderRequest);
+            } finally {
+                razorpayCall.stop(Timer.builder("unbound.payment.razorpay")
+                        .tag("operation", "create_order")
+                        .publishPercentiles(0.5, 0.95, 0.99)
+                        .register(meterRegistry));
+            }
 
             Payment payment = Payment.builder()
                     .user(currentUser)
@@ -119,9 +148,12 @@ public class PaymentService {
                     .build();
 
             Payment savedPayment = paymentRepository.save(payment);
+            SeatHold hold = seatHoldService.place(savedPayment);
             log.info("Payment order created successfully. Order ID: {}", savedPayment.getRazorpayOrderId());
 
-            return toResponse(savedPayment);
+            PaymentResponse response = toResponse(savedPayment);
+            response.setSeatHeldUntil(hold.getExpiresAt());
+            return response;
 
         } catch (RazorpayException e) {
             log.error("Failed to create Razorpay order for event {}", eventId, e);
@@ -131,12 +163,22 @@ public class PaymentService {
 
     // POST /api/payments/verify
     @Transactional
+    @Timed(value = "unbound.payment", extraTags = { "operation", "verify" }, percentiles = { 0.5, 0.95, 0.99 })
     public PaymentResponse verifyPayment(PaymentVerifyRequest request) {
         log.info("Verifying payment for order: {}", request.getRazorpayOrderId());
 
         Payment payment = paymentRepository.findByRazorpayOrderId(request.getRazorpayOrderId())
                 .orElseThrow(() -> new ResourceNotFoundException("Payment not found for order: " + request.getRazorpayOrderId()));
 
+        // A retry or double submit: the first verify already settled the payment
+        if (payment.getStatus() == PaymentStatus.SUCCESS
+                || payment.getStatus() == PaymentStatus.REFUND_PENDING
+                || payment.getStatus() == PaymentStatus.REFUNDED) {
+            log.info("Payment for order {} already verified ({}), nothing to do",
+                    request.getRazorpayOrderId(), payment.getStatus());
+            return toResponse(payment);
+        }
+
         boolean isValid = verifySignature(
                 request.getRazorpayOrderId(),
                 request.getRazorpayPaymentId(),
@@ -153,24 +195,24 @@ public class PaymentService {
 
         payment.setRazorpayPaymentId(request.getRazorpayPaymentId());
         payment.setRazorpaySignature(request.getRazorpaySignature());
-        payment.setStatus(PaymentStatus.SUCCESS);
-        paymentRepository.save(payment);
-
-        log.info("Payment verified successfully. Payment ID: {}", request.getRazorpayPaymentId());
 
-        registrationRepository.findByUserAndEvent(payment.getUser(), payment.getEvent())
-                .ifPresent(reg -> {
-                    reg.setStatus(RegistrationStatus.CONFIRMED);
-                    registrationRepository.save(reg);
-                    log.info("Registration confirmed for user {} and event {}", 
-                            payment.getUser().getId(), payment.getEvent().getId());
-                });
+        // Captured either way; without a seat it is owed back and stays out of revenue
+        if (seatHoldService.convert(payment)) {
+            payment.setStatus(PaymentStatus.SUCCESS);
+            log.info("Payment verified successfully. Payment ID: {}", request.getRazorpayPaymentId());
+        } else {
+            payment.setStatus(PaymentStatus.REFUND_PENDING);
+            payment.setFailureReason("Seat hold expired and the event is full; payment to be refunded");
+            log.warn("Payment {} captured without a seat, marked for refund", request.getRazorpayPaymentId());
+        }
+        paymentRepository.save(payment);
 
         return toResponse(payment);
     }
 
     // POST /api/payments/failure
     @Transactional
+    @Timed(value = "unbound.payment", extraTags = { "operation", "failure" }, percentiles = { 0.5, 0.95, 0.99 })
     public PaymentResponse handleFailure(String razorpayOrderId, String reason) {
         log.warn("Payment failure for order: {}. Reason: {}", razorpayOrderId, reason);
 
@@ -180,6 +222,7 @@ public class PaymentService {
         payment.setStatus(PaymentStatus.FAILED);
         payment.setFailureReason(reason != null ? reason : "Payment failed");
         paymentRepository.save(payment);
+        seatHoldService.release(payment);
 
         return toResponse(payment);
     }
@@ -270,6 +313,7 @@ public class PaymentService {
         int successful = paymentRepository.countByStatus(PaymentStatus.SUCCESS);
         int failed = paymentRepository.countByStatus(PaymentStatus.FAILED);
         int pending = paymentRepository.countByStatus(PaymentStatus.PENDING);
+        int refundPending = paymentRepository.countByStatus(PaymentStatus.REFUND_PENDING);
         int refunded = paymentRepository.countByStatus(PaymentStatus.REFUNDED);
         
         Double totalRevenue = allPayments.stream()
@@ -287,6 +331,7 @@ public class PaymentService {
                 .successfulPayments(successful)
                 .failedPayments(failed)
                 .pendingPayments(pending)
+                .refundPendingPayments(refundPending)
                 .refundedPayments(refunded)
                 .totalRevenue(totalRevenue)
                 .averageTransactionAmount(avgAmount)
@@ -306,7 +351,7 @@ public class PaymentService {
     }
 
     // HMAC SHA256 signature verification
-    private boolean verifySignature(String orderId, String paymentId, String signature) {
+    boolean verifySignature(String orderId, String paymentId, String signature) {
         try {
             String payload = orderId + "|" + paymentId;
             Mac mac = Mac.getInstance("HmacSHA256");
@@ -10,6 +10,9 @@ import com.unbound.backend.exception.BadRequestException;
 import com.unbound.backend.exception.ResourceNotFoundException;
 import com.unbound.backend.repository.EventRepository;
 import com.unbound.backend.repository.RegistrationRepository;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -27,6 +30,8 @@ public class RegistrationService {
         private final EventRepository eventRepository;
         private final UserService userService;
         private final EmailService emailService;
+        private final SeatHoldService seatHoldService;
+        private final MeterRegistry meterRegistry;
 
         private RegistrationResponse toResponse(Registration reg) {
                 return RegistrationResponse.builder()
@@ -45,13 +50,19 @@ public class RegistrationService {
 
         // POST /api/registrations/{eventId} — student registers for event
         @Transactional
+        @Timed(value = "unbound.registration.register", percentiles = { 0.5, 0.95, 0.99 })
         public RegistrationResponse registerForEvent(Long eventId) {
-                User currentUser = userService.getCurrentUser();
+                User currentUser = userService.getCurrentUserForUpdate();
 
-                // Acquire pessimistic write lock on event to prevent race conditions
+                // Acquire pessimistic write lock on event to prevent race conditions.
+                // Timed on its own: under contention this wait is most of the request.
+                Timer.Sample lockWait = Timer.start(meterRegistry);
                 Event event = eventRepository.findByIdWithLock(eventId)
                                 .orElseThrow(() -> new ResourceNotFoundException(
                                                 "Event not found with id: " + eventId));
+                lockWait.stop(Timer.builder("unbound.registration.lock.wait")
+                                .publishPercentiles(0.5, 0.95, 0.99)
+                                .register(meterRegistry));
 
                 log.info("User {} attempting to register for event {}", currentUser.getId(), eventId);
 
@@ -60,6 +71,13 @@ public class RegistrationService {
                         log.warn("Registration attempt for non-published event {}", eventId);
                         throw new BadRequestException("Event is not open for registration");
                 }
+                if (!event.isRegistrationOpen()) {
+                        throw new BadRequestException("Registration for this event has closed");
+                }
+                // Paid events go through createOrder, which holds a seat until the payment is verified
+                if (event.getFeeAmount() != null && event.getFeeAmount() > 0) {
+                        throw new BadRequestException("This is a paid event. Complete the payment to register.");
+                }
 
                 // Check duplicate registration
                 if (registrationRepository.existsByUserAndEvent(currentUser, event)) {
@@ -68,15 +86,14 @@ public class RegistrationService {
                         throw new BadRequestException("You are already registered for this event");
                 }
 
-                // Capacity validation with confirmed registrations only
-                int confirmedCount = registrationRepository.countByEventAndStatus(
-                        event, RegistrationStatus.CONFIRMED);
+                // Capacity validation: confirmed registrations plus seats held for pending payments
+                int takenSeats = seatHoldService.takenSeats(event);
                 
-                log.debug("Event {} capacity: {}/{}", eventId, confirmedCount, event.getMaxParticipants());
+                log.debug("Event {} capacity: {}/{}", eventId, takenSeats, event.getMaxParticipants());
 
-                if (confirmedCount >= event.getMaxParticipants()) {
+                if (takenSeats >= event.getMaxParticipants()) {
                         log.warn("Event {} is full. Current: {}, Max: {}", 
-                                eventId, confirmedCount, event.getMaxParticipants());
+                                eventId, takenSeats, event.getMaxParticipants());
                         throw new BadRequestException("Event is full. No more registrations allowed.");
                 }
 
@@ -110,7 +127,7 @@ public class RegistrationService {
         // DELETE /api/registrations/{eventId} — student cancels registration
         @Transactional
         public void cancelRegistration(Long eventId) {
-                User currentUser = userService.getCurrentUser();
+                User currentUser = userService.getCurrentUserForUpdate();
 
                 Event event = eventRepository.findById(eventId)
                                 .orElseThrow(() -> new ResourceNotFoundException(
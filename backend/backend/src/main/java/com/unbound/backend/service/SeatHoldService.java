@@ -0,0 +1,252 @@
+package com.unbound.backend.service;
+
+import com.unbound.backend.datasource.ReadWriteRoutingDataSource;
+import com.unbound.backend.entity.Event;
+import com.unbound.backend.entity.Payment;
+import com.unbound.backend.entity.Registration;
+import com.unbound.backend.entity.SeatHold;
+import com.unbound.backend.entity.User;
+import com.unbound.backend.enums.PaymentStatus;
+import com.unbound.backend.enums.RegistrationStatus;
+import com.unbound.backend.exception.BadRequestException;
+import com.unbound.backend.exception.ResourceNotFoundException;
+import com.unbound.backend.repository.EventRepository;
+import com.unbound.backend.repository.HoldExpiry;
+import com.unbound.backend.repository.PaymentRepository;
+import com.unbound.backend.repository.RegistrationRepository;
+import com.unbound.backend.repository.SeatHoldRepository;
+import com.unbound.backend.util.HashedTimingWheel;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Seats reserved while a student pays for an event. A hold counts against
+ * maxParticipants from createOrder until verifyPayment turns it into a CONFIRMED
+ * registration, the payment fails, or {@code ttl} runs out.
+ * <p>
+ * seat_holds is the durable copy and what capacity is counted from, so every node
+ * sees every hold and an unexpired hold counts even if expiry has not run. Expiry
+ * itself is driven by an in-memory timing wheel rather than by polling the table:
+ * each node expires the holds it placed, and rebuilds the wheel from seat_holds at
+ * startup (which also clears holds a stopped node left behind). Wheel entries are
+ * never cancelled — a hold that ended early is simply gone when its entry fires,
+ * which also keeps a rolled-back transaction from leaving a hold without expiry.
+ */
+@Service
+@Slf4j
+public class SeatHoldService {
+
+    // 512 ticks of 5s: a 10 minute hold is well inside one revolution
+    private static final int WHEEL_SIZE = 512;
+    private static final int EXPIRY_BATCH_SIZE = 500;
+    static final String EXPIRED_REASON = "Seat hold expired before payment";
+
+    private final SeatHoldRepository seatHoldRepository;
+    private final RegistrationRepository registrationRepository;
+    private final EventRepository eventRepository;
+    private final PaymentRepository paymentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration ttl;
+    private final Counter expired;
+    // Guarded by itself
+    private final HashedTimingWheel<Long, Long> wheel;
+
+    public SeatHoldService(SeatHoldRepository seatHoldRepository,
+                           RegistrationRepository registrationRepository,
+                           EventRepository eventRepository,
+                           PaymentRepository paymentRepository,
+                           PlatformTransactionManager transactionManager,
+                           MeterRegistry meterRegistry,
+                           @Value("${app.payments.seat-hold.ttl:10m}") Duration ttl,
+                           @Value("${app.payments.seat-hold.tick-ms:5000}") long tickMillis) {
+        this.seatHoldRepository = seatHoldRepository;
+        this.registrationRepository = registrationRepository;
+        this.eventRepository = eventRepository;
+        this.paymentRepository = paymentRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.ttl = ttl;
+        this.wheel = new HashedTimingWheel<>(tickMillis, WHEEL_SIZE, System.currentTimeMillis());
+        this.expired = Counter.builder("unbound.payment.seat_holds.expired").register(meterRegistry);
+        Gauge.builder("unbound.payment.seat_holds.pending_expiry", this, s -> s.pendingExpiries())
+                .register(meterRegistry);
+    }
+
+    public int pendingExpiries() {
+        synchronized (wheel) {
+            return wheel.size();
+        }
+    }
+
+    // Confirmed registrations plus unexpired holds; callers hold the event's row lock
+    public int takenSeats(Event event) {
+        return registrationRepository.countByEventAndStatus(event, RegistrationStatus.CONFIRMED)
+                + seatHoldRepository.countActive(event, LocalDateTime.now());
+    }
+
+    /**
+     * Locks the event until the caller's transaction ends and checks a seat is free
+     * for {@code user}, replacing their earlier hold on it and failing its payment.
+     * Throws when the event is full. Called before any payment order is created, so
+     * a full event never reaches the gateway; {@link #place} then records the hold.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Event reserve(User user, Long eventId) {
+        Event event = eventRepository.findByIdWithLock(eventId)
+                .orElseThrow(() -> new ResourceNotFoundException("Event not found with id: " + eventId));
+
+        seatHoldRepository.findByUserAndEvent(user, event).ifPresent(previous -> {
+            Payment superseded = previous.getPayment();
+            if (superseded.getStatus() == PaymentStatus.PENDING) {
+                superseded.setStatus(PaymentStatus.FAILED);
+                superseded.setFailureReason("Replaced by a newer order");
+            }
+            seatHoldRepository.delete(previous);
+            // The (user, event) key must be free before the new row is inserted
+            seatHoldRepository.flush();
+        });
+
+        if (takenSeats(event) >= event.getMaxParticipants()) {
+            log.warn("Event {} is full, no seat to hold for user {}", eventId, user.getId());
+            throw new BadRequestException("Event is full. No more registrations allowed.");
+        }
+        return event;
+    }
+
+    // Holds the seat reserved for this new PENDING payment, under the lock taken by reserve
+    @Transactional(propagation = Propagation.MANDATORY)
+    public SeatHold place(Payment payment) {
+        Event event = payment.getEvent();
+
+        // Millisecond precision so the row and the wheel agree on when it is due
+        LocalDateTime expiresAt = LocalDateTime.now().plus(ttl).truncatedTo(ChronoUnit.MILLIS);
+        SeatHold hold = seatHoldRepository.save(SeatHold.builder()
+                .user(payment.getUser())
+                .event(event)
+                .payment(payment)
+                .expiresAt(expiresAt)
+                .build());
+        synchronized (wheel) {
+            wheel.schedule(hold.getId(), epochMillis(expiresAt), hold.getId());
+        }
+        log.info("Seat held on event {} for payment {} until {}", event.getId(), payment.getId(), expiresAt);
+        return hold;
+    }
+
+    /**
+     * Turns the payment's hold into a CONFIRMED registration. Without a live hold (it
+     * expired first) the seat is only taken if one is still free; returns false when
+     * the event filled up meanwhile, leaving the payment for a refund. A registration
+     * that is already CONFIRMED counts as converted and takes no further seat.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean convert(Payment payment) {
+        Long eventId = payment.getEvent().getId();
+        Event event = eventRepository.findByIdWithLock(eventId)
+                .orElseThrow(() -> new ResourceNotFoundException("Event not found with id: " + eventId));
+
+        SeatHold hold = seatHoldRepository.findByPayment(payment).orElse(null);
+        boolean held = hold != null && hold.getExpiresAt().isAfter(LocalDateTime.now());
+        if (hold != null) {
+            seatHoldRepository.delete(hold);
+            seatHoldRepository.flush();
+        }
+
+        Registration registration = registrationRepository.findByUserAndEvent(payment.getUser(), event).orElse(null);
+        if (registration != null && registration.getStatus() == RegistrationStatus.CONFIRMED) {
+            // Its seat is already counted; checking capacity again would refuse the user their own seat
+            log.info("User {} already confirmed for event {}, payment {} needs no seat",
+                    payment.getUser().getId(), eventId, payment.getId());
+            return true;
+        }
+        if (!held && takenSeats(event) >= event.getMaxParticipants()) {
+            log.warn("Payment {} verified after its seat hold ended and event {} is full", payment.getId(), eventId);
+            return false;
+        }
+
+        if (registration == null) {
+            registration = Registration.builder().user(payment.getUser()).event(event).build();
+        } else {
+            // Cancelled earlier; this payment is a new sign-up for the same seat
+            log.info("Re-confirming cancelled registration {} for payment {}", registration.getId(), payment.getId());
+        }
+        registration.setStatus(RegistrationStatus.CONFIRMED);
+        registrationRepository.save(registration);
+        log.info("Registration confirmed for user {} and event {}", payment.getUser().getId(), eventId);
+        return true;
+    }
+
+    // The payment failed or was abandoned: its seat goes back straight away
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void release(Payment payment) {
+        seatHoldRepository.findByPayment(payment).ifPresent(hold -> {
+            seatHoldRepository.delete(hold);
+            log.info("Seat hold on event {} released for payment {}", hold.getEvent().getId(), payment.getId());
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<HoldExpiry> holds = ReadWriteRoutingDataSource.onPrimary(seatHoldRepository::findAllExpiries);
+        synchronized (wheel) {
+            holds.forEach(h -> wheel.schedule(h.getId(), epochMillis(h.getExpiresAt()), h.getId()));
+        }
+        log.info("Seat holds loaded: {} pending expiry", holds.size());
+    }
+
+    @Scheduled(fixedRateString = "${app.payments.seat-hold.tick-ms:5000}")
+    public void tick() {
+        advanceTo(System.currentTimeMillis());
+    }
+
+    // Expires every hold due by nowMillis; tick() passes the wall clock, tests a later time
+    void advanceTo(long nowMillis) {
+        List<Long> due = new ArrayList<>();
+        synchronized (wheel) {
+            wheel.advanceTo(nowMillis, (holdId, ignored) -> due.add(holdId));
+        }
+        LocalDateTime now = LocalDateTime.ofInstant(Instant.ofEpochMilli(nowMillis), ZoneId.systemDefault());
+        for (int from = 0; from < due.size(); from += EXPIRY_BATCH_SIZE) {
+            expire(due.subList(from, Math.min(from + EXPIRY_BATCH_SIZE, due.size())), now);
+        }
+    }
+
+    // One set-based UPDATE and DELETE per batch; holds converted or released meanwhile match neither
+    private void expire(List<Long> holdIds, LocalDateTime now) {
+        try {
+            int released = transactionTemplate.execute(status -> {
+                paymentRepository.failPendingForExpiredHolds(holdIds, EXPIRED_REASON, now);
+                return seatHoldRepository.deleteExpired(holdIds, now);
+            });
+            if (released > 0) {
+                expired.increment(released);
+                log.info("Released {} expired seat holds", released);
+            }
+        } catch (Exception ex) {
+            // The rows stay and no longer count against capacity; the next startup retries them
+            log.error("Expiring {} seat holds failed", holdIds.size(), ex);
+        }
+    }
+
+    private static long epochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
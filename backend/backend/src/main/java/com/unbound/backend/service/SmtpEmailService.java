@@ -1,8 +1,11 @@
 package com.unbound.backend.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
@@ -12,6 +15,8 @@ import jakarta.mail.internet.MimeMessage;
 import java.io.UnsupportedEncodingException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
 
 @Service
 @Slf4j
@@ -22,11 +27,14 @@ public class SmtpEmailService implements EmailService {
     private final JavaMailSender mailSender;
     private final String fromEmail;
     private final String fromName;
+    private final MeterRegistry meterRegistry;
 
     public SmtpEmailService(JavaMailSender mailSender,
             @Value("${spring.mail.username}") String fromEmail,
-            @Value("${spring.mail.from-name:Unbound}") String fromName) {
+            @Value("${spring.mail.from-name:Unbound}") String fromName,
+            MeterRegistry meterRegistry) {
         this.mailSender = mailSender;
+        this.meterRegistry = meterRegistry;
         this.fromEmail = fromEmail;
         this.fromName = fromName == null || fromName.isBlank() ? "Unbound" : fromName;
     }
@@ -139,22 +147,72 @@ public class SmtpEmailService implements EmailService {
         sendEmail(recipientEmail, subject, body);
     }
 
+    @Override
+    public void sendEventReminders(List<Recipient> recipients, String eventTitle,
+            LocalDateTime eventDate, String venue, String startsIn) {
+        String subject = "Event Reminder";
+        String details = "<p><strong>" + escape(eventTitle) + "</strong> starts in " + escape(startsIn) + ".</p>"
+                + "<p><strong>Date:</strong> " + formatDate(eventDate) + "<br/>"
+                + "<strong>Venue:</strong> " + escape(venue) + "</p>"
+                + "<p>See you there.</p>"
+                + "<p>Best regards,<br/>The Unbound Team</p>";
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failed";
+        try {
+            List<MimeMessage> messages = new ArrayList<>(recipients.size());
+            for (Recipient recipient : recipients) {
+                messages.add(createMessage(recipient.email(), subject,
+                        "<p>Hi " + escape(recipient.name()) + ",</p>" + details));
+            }
+            // One SMTP session for the whole batch
+            mailSender.send(messages.toArray(MimeMessage[]::new));
+            outcome = "sent";
+            log.info("SMTP reminder batch sent to {} recipients: {}", recipients.size(), eventTitle);
+        } catch (MailSendException ex) {
+            outcome = ex.getFailedMessages().size() < recipients.size() ? "partial" : "failed";
+            log.error("Reminder batch for {}: {} of {} emails failed", eventTitle,
+                    ex.getFailedMessages().size(), recipients.size(), ex);
+        } catch (MailException | MessagingException | UnsupportedEncodingException ex) {
+            log.error("Failed to send reminder batch for {} via SMTP", eventTitle, ex);
+        } finally {
+            sample.stop(Timer.builder("unbound.email.send")
+                    .tag("subject", subject)
+                    .tag("outcome", outcome)
+                    .publishPercentiles(0.5, 0.99)
+                    .register(meterRegistry));
+        }
+    }
+
+    // Timed per subject (a fixed set); failures are the outcome=failed series
     private void sendEmail(String recipientEmail, String subject, String htmlContent) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failed";
         try {
-            MimeMessage message = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-            helper.setFrom(fromEmail, fromName);
-            helper.setTo(recipientEmail);
-            helper.setSubject(subject);
-            helper.setText(htmlContent, true); // true for HTML
-
-            mailSender.send(message);
+            mailSender.send(createMessage(recipientEmail, subject, htmlContent));
+            outcome = "sent";
             log.info("SMTP email sent successfully to {}: {}", recipientEmail, subject);
         } catch (MailException | MessagingException | UnsupportedEncodingException ex) {
             log.error("Failed to send email to {} via SMTP", recipientEmail, ex);
+        } finally {
+            sample.stop(Timer.builder("unbound.email.send")
+                    .tag("subject", subject)
+                    .tag("outcome", outcome)
+                    .publishPercentiles(0.5, 0.99)
+                    .register(meterRegistry));
         }
     }
 
+    private MimeMessage createMessage(String recipientEmail, String subject, String htmlContent)
+            throws MessagingException, UnsupportedEncodingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+        helper.setFrom(fromEmail, fromName);
+        helper.setTo(recipientEmail);
+        helper.setSubject(subject);
+        helper.setText(htmlContent, true); // true for HTML
+        return message;
+    }
+
     private String formatDate(LocalDateTime eventDate) {
         return eventDate == null ? "TBD" : DATE_TIME_FORMATTER.format(eventDate);
     }
@@ -0,0 +1,98 @@
+package com.unbound.backend.service;
+
+import com.unbound.backend.datasource.ReadWriteRoutingDataSource;
+import com.unbound.backend.dto.response.SuggestionResponse;
+import com.unbound.backend.enums.ClubStatus;
+import com.unbound.backend.enums.EventStatus;
+import com.unbound.backend.event.ClubChangedEvent;
+import com.unbound.backend.event.EventChangedEvent;
+import com.unbound.backend.repository.ClubRepository;
+import com.unbound.backend.repository.EventRepository;
+import com.unbound.backend.util.PrefixIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * Type-ahead over club names and event titles from in-memory prefix indexes.
+ * Every club/event is indexed (inactive clubs included, since names stay unique);
+ * suggestions only show approved active clubs and published events.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SuggestionService {
+
+    private static final int MAX_LIMIT = 20;
+
+    private record ClubEntry(Long id, String name, ClubStatus status, boolean active) {
+    }
+
+    private record EventEntry(Long id, String title, EventStatus status) {
+    }
+
+    private final ClubRepository clubRepository;
+    private final EventRepository eventRepository;
+
+    private final PrefixIndex<ClubEntry> clubIndex = new PrefixIndex<>();
+    private final PrefixIndex<EventEntry> eventIndex = new PrefixIndex<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        ReadWriteRoutingDataSource.onPrimary(() -> {
+            loadIndexes();
+            return null;
+        });
+    }
+
+    private void loadIndexes() {
+        clubIndex.replaceAll(clubRepository.findAll().stream()
+                .map(c -> new PrefixIndex.Item<>(c.getId(), c.getName(),
+                        new ClubEntry(c.getId(), c.getName(), c.getStatus(), c.isActive())))
+                .toList());
+        eventIndex.replaceAll(eventRepository.findAll().stream()
+                .map(e -> new PrefixIndex.Item<>(e.getId(), e.getTitle(),
+                        new EventEntry(e.getId(), e.getTitle(), e.getStatus())))
+                .toList());
+        log.info("Suggestion indexes loaded: {} clubs, {} events", clubIndex.size(), eventIndex.size());
+    }
+
+    // GET /api/clubs/suggest
+    public List<SuggestionResponse> suggestClubs(String prefix, int limit) {
+        return clubIndex.search(prefix, clampLimit(limit),
+                        c -> c.active() && c.status() == ClubStatus.APPROVED)
+                .stream().map(c -> new SuggestionResponse(c.id(), c.name())).toList();
+    }
+
+    // GET /api/events/suggest
+    public List<SuggestionResponse> suggestEvents(String prefix, int limit) {
+        return eventIndex.search(prefix, clampLimit(limit), e -> e.status() == EventStatus.PUBLISHED)
+                .stream().map(e -> new SuggestionResponse(e.id(), e.title())).toList();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onClubChanged(ClubChangedEvent event) {
+        clubIndex.put(event.clubId(), event.name(),
+                new ClubEntry(event.clubId(), event.name(), event.status(), event.active()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEventChanged(EventChangedEvent event) {
+        if (event.deleted()) {
+            eventIndex.remove(event.eventId());
+        } else {
+            eventIndex.put(event.eventId(), event.title(),
+                    new EventEntry(event.eventId(), event.title(), event.status()));
+        }
+    }
+
+    private static int clampLimit(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+}
@@ -3,12 +3,19 @@ package com.unbound.backend.service;
 import com.unbound.backend.dto.request.UpdateProfileRequest;
 import com.unbound.backend.dto.response.UserResponse;
 import com.unbound.backend.entity.User;
+import com.unbound.backend.event.UserUpdatedEvent;
 import com.unbound.backend.exception.BadRequestException;
 import com.unbound.backend.exception.ResourceNotFoundException;
 import com.unbound.backend.repository.UserRepository;
+import com.unbound.backend.security.CachedUser;
+import com.unbound.backend.security.UserPrincipalCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -17,12 +24,37 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class UserService {
 
+    private static final String CURRENT_USER_ATTRIBUTE = UserService.class.getName() + ".currentUser";
+
     private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
+    private final ApplicationEventPublisher eventPublisher;
 
-    // Get currently authenticated user from SecurityContext
+    // Get currently authenticated user from SecurityContext.
+    // Resolved once per request, then served from the request and the principal cache.
+    // A detached, possibly stale snapshot: read from it, write through getCurrentUserForUpdate().
     public User getCurrentUser() {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request != null
+                && request.getAttribute(CURRENT_USER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof User user) {
+            return user;
+        }
+
         String email = SecurityContextHolder.getContext().getAuthentication().getName();
-        return userRepository.findByEmail(email)
+        User user = userPrincipalCache.get(email)
+                .map(CachedUser::toEntity)
+                .orElseThrow(() -> new ResourceNotFoundException("Authenticated user not found"));
+
+        if (request != null) {
+            request.setAttribute(CURRENT_USER_ATTRIBUTE, user, RequestAttributes.SCOPE_REQUEST);
+        }
+        return user;
+    }
+
+    // The managed row for the authenticated user, so a save never writes snapshot fields back
+    public User getCurrentUserForUpdate() {
+        Long id = getCurrentUser().getId();
+        return userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Authenticated user not found"));
     }
 
@@ -48,8 +80,9 @@ public class UserService {
     }
 
     // PUT /api/users/me
+    @Transactional
     public UserResponse updateMyProfile(UpdateProfileRequest request) {
-        User user = getCurrentUser();
+        User user = getCurrentUserForUpdate();
 
         if (request.getPhone() != null
                 && !request.getPhone().equals(user.getPhone())
@@ -61,7 +94,9 @@ public class UserService {
         if (request.getPhone() != null)      user.setPhone(request.getPhone());
         if (request.getDepartment() != null) user.setDepartment(request.getDepartment());
 
-        return toResponse(userRepository.save(user));
+        User saved = userRepository.save(user);
+        eventPublisher.publishEvent(new UserUpdatedEvent(saved.getId(), saved.getEmail()));
+        return toResponse(saved);
     }
 
     // GET /api/users/{id} — ADMIN only
@@ -80,6 +115,7 @@ public class UserService {
     }
 
     // DELETE /api/users/{id} — soft delete, ADMIN only
+    @Transactional
     public void deactivateUser(Long id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
@@ -88,5 +124,6 @@ public class UserService {
         }
         user.setActive(false);
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserUpdatedEvent(user.getId(), user.getEmail()));
     }
 }
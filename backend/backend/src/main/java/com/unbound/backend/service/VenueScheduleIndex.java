@@ -0,0 +1,154 @@
+package com.unbound.backend.service;
+
+import com.unbound.backend.datasource.ReadWriteRoutingDataSource;
+import com.unbound.backend.entity.Event;
+import com.unbound.backend.enums.EventStatus;
+import com.unbound.backend.event.EventChangedEvent;
+import com.unbound.backend.exception.BadRequestException;
+import com.unbound.backend.repository.EventRepository;
+import com.unbound.backend.util.IntervalTree;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Per-venue interval trees of draft and published events, so a booking can be
+ * checked for overlaps in O(log n + k) instead of scanning the events table.
+ * Loaded at startup and kept current from EventChangedEvent after commit.
+ * Two nodes booking the same slot at the same instant can still both pass —
+ * the index is a guard against honest double-booking, not a constraint.
+ */
+@Component
+@Slf4j
+public class VenueScheduleIndex {
+
+    public enum ConflictMode { REJECT, FLAG }
+
+    public record Booking(Long eventId, String title, LocalDateTime start, LocalDateTime end) {
+    }
+
+    private record Placement(String venueKey, long start) {
+    }
+
+    private static final List<EventStatus> BLOCKING_STATUSES = List.of(EventStatus.DRAFT, EventStatus.PUBLISHED);
+
+    private final EventRepository eventRepository;
+    private final ConflictMode conflictMode;
+    private final Map<String, IntervalTree<Booking>> venues = new HashMap<>();
+    private final Map<Long, Placement> placements = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public VenueScheduleIndex(EventRepository eventRepository,
+            @Value("${app.events.venue-conflict-mode:reject}") String conflictMode) {
+        this.eventRepository = eventRepository;
+        this.conflictMode = ConflictMode.valueOf(conflictMode.trim().toUpperCase(Locale.ROOT));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<Event> events = ReadWriteRoutingDataSource.onPrimary(
+                () -> eventRepository.findAllByStatusIn(BLOCKING_STATUSES));
+        lock.writeLock().lock();
+        try {
+            venues.clear();
+            placements.clear();
+            events.forEach(e -> place(e.getId(), e.getTitle(), e.getVenue(), e.getEventDate(), e.getEndTime()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Venue schedule loaded: {} bookings across {} venues", placements.size(), venues.size());
+    }
+
+    /**
+     * Checks a booking against the index. In reject mode an overlap throws;
+     * in flag mode the overlapping event ids are returned for the caller to surface.
+     *
+     * @return ids of overlapping events, empty when the slot is free
+     */
+    public List<Long> check(Long eventId, String venue, LocalDateTime start, LocalDateTime end) {
+        if (venue == null || venue.isBlank()) {
+            return List.of();
+        }
+
+        List<Booking> conflicts = bookings(venue, start, end).stream()
+                .filter(b -> !b.eventId().equals(eventId))
+                .toList();
+        if (conflicts.isEmpty()) {
+            return List.of();
+        }
+
+        Booking first = conflicts.get(0);
+        if (conflictMode == ConflictMode.REJECT) {
+            throw new BadRequestException("Venue '" + venue + "' is already booked by '" + first.title()
+                    + "' from " + first.start() + " to " + first.end());
+        }
+        log.warn("Event {} overlaps {} booking(s) at venue '{}'", eventId, conflicts.size(), venue);
+        return conflicts.stream().map(Booking::eventId).toList();
+    }
+
+    // Bookings at the venue that overlap [from, to), earliest first
+    public List<Booking> bookings(String venue, LocalDateTime from, LocalDateTime to) {
+        lock.readLock().lock();
+        try {
+            IntervalTree<Booking> tree = venues.get(venueKey(venue));
+            return tree == null ? List.of() : tree.findOverlapping(epoch(from), epoch(to));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEventChanged(EventChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            unplace(event.eventId());
+            if (!event.deleted() && BLOCKING_STATUSES.contains(event.status())) {
+                place(event.eventId(), event.title(), event.venue(), event.startsAt(), event.endsAt());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void place(Long eventId, String title, String venue, LocalDateTime start, LocalDateTime end) {
+        if (venue == null || venue.isBlank() || start == null) {
+            return;
+        }
+        String key = venueKey(venue);
+        venues.computeIfAbsent(key, k -> new IntervalTree<>())
+                .insert(epoch(start), epoch(end), eventId, new Booking(eventId, title, start, end));
+        placements.put(eventId, new Placement(key, epoch(start)));
+    }
+
+    private void unplace(Long eventId) {
+        Placement placement = placements.remove(eventId);
+        if (placement == null) {
+            return;
+        }
+        IntervalTree<Booking> tree = venues.get(placement.venueKey());
+        tree.remove(placement.start(), eventId);
+        if (tree.size() == 0) {
+            venues.remove(placement.venueKey());
+        }
+    }
+
+    static String venueKey(String venue) {
+        return venue.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static long epoch(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,56 @@
+package com.unbound.backend.service;
+
+import com.unbound.backend.dto.response.VenueAvailabilityResponse;
+import com.unbound.backend.exception.BadRequestException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class VenueService {
+
+    private static final int MAX_RANGE_DAYS = 90;
+
+    private final VenueScheduleIndex venueScheduleIndex;
+
+    // GET /api/venues/{venue}/availability
+    public VenueAvailabilityResponse getAvailability(String venue, LocalDateTime from, LocalDateTime to) {
+        if (!to.isAfter(from)) {
+            throw new BadRequestException("'to' must be after 'from'");
+        }
+        if (from.plusDays(MAX_RANGE_DAYS).isBefore(to)) {
+            throw new BadRequestException("Availability range cannot exceed " + MAX_RANGE_DAYS + " days");
+        }
+
+        List<VenueScheduleIndex.Booking> bookings = venueScheduleIndex.bookings(venue, from, to);
+
+        // Walk the bookings in start order; every gap between them inside [from, to) is free
+        List<VenueAvailabilityResponse.Slot> freeSlots = new ArrayList<>();
+        LocalDateTime cursor = from;
+        for (VenueScheduleIndex.Booking booking : bookings) {
+            if (booking.start().isAfter(cursor)) {
+                freeSlots.add(new VenueAvailabilityResponse.Slot(cursor, booking.start()));
+            }
+            if (booking.end().isAfter(cursor)) {
+                cursor = booking.end();
+            }
+        }
+        if (cursor.isBefore(to)) {
+            freeSlots.add(new VenueAvailabilityResponse.Slot(cursor, to));
+        }
+
+        return VenueAvailabilityResponse.builder()
+                .venue(venue)
+                .from(from)
+                .to(to)
+                .bookings(bookings.stream()
+                        .map(b -> new VenueAvailabilityResponse.Booking(b.eventId(), b.title(), b.start(), b.end()))
+                        .toList())
+                .freeSlots(freeSlots)
+                .build();
+    }
+}
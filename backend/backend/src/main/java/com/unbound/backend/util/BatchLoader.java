@@ -0,0 +1,52 @@
+package com.unbound.backend.util;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * DataLoader-style batcher for assembling one response: callers register keys
+ * with {@link #load}, and the first {@code get()} on any returned supplier
+ * resolves every pending key with a single call to the batch function.
+ * Scoped to one request and not thread-safe.
+ */
+public final class BatchLoader<K, V> {
+
+    private final Function<Collection<K>, Map<K, V>> batchFunction;
+    private final Set<K> pending = new LinkedHashSet<>();
+    private final Map<K, V> loaded = new HashMap<>();
+
+    public BatchLoader(Function<Collection<K>, Map<K, V>> batchFunction) {
+        this.batchFunction = batchFunction;
+    }
+
+    public Supplier<V> load(K key) {
+        if (!loaded.containsKey(key)) {
+            pending.add(key);
+        }
+        return () -> get(key);
+    }
+
+    public void dispatch() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        Map<K, V> result = batchFunction.apply(List.copyOf(pending));
+        for (K key : pending) {
+            loaded.put(key, result.get(key));
+        }
+        pending.clear();
+    }
+
+    private V get(K key) {
+        if (pending.contains(key)) {
+            dispatch();
+        }
+        return loaded.get(key);
+    }
+}
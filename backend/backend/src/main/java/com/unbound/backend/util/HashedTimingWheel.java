@@ -0,0 +1,130 @@
+package com.unbound.backend.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Hashed timing wheel: deadlines are rounded up to a tick and hashed into one of
+ * {@code wheelSize} buckets, each a doubly linked list. Schedule and cancel are O(1);
+ * advancing visits only the buckets for the ticks that passed, and an entry further
+ * out than one revolution just stays put until its tick comes round. Deadlines never
+ * fire early, and late by at most one tick plus however late advanceTo is called.
+ * Keyed: scheduling an existing key replaces it. Not thread-safe; callers guard it.
+ */
+public final class HashedTimingWheel<K, V> {
+
+    private static final class Entry<K, V> {
+        final K key;
+        final V value;
+        final long deadlineTick;
+        Entry<K, V> prev;
+        Entry<K, V> next;
+
+        Entry(K key, V value, long deadlineTick) {
+            this.key = key;
+            this.value = value;
+            this.deadlineTick = deadlineTick;
+        }
+    }
+
+    private final long tickMillis;
+    private final Entry<K, V>[] buckets;
+    private final int mask;
+    private final Map<K, Entry<K, V>> entries = new HashMap<>();
+    // Last tick already expired; ticks are absolute (epoch millis / tickMillis)
+    private long currentTick;
+
+    @SuppressWarnings("unchecked")
+    public HashedTimingWheel(long tickMillis, int wheelSize, long nowMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Tick must be positive");
+        }
+        if (wheelSize <= 0 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("Wheel size must be a power of two");
+        }
+        this.tickMillis = tickMillis;
+        this.buckets = (Entry<K, V>[]) new Entry[wheelSize];
+        this.mask = wheelSize - 1;
+        this.currentTick = nowMillis / tickMillis;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public boolean contains(K key) {
+        return entries.containsKey(key);
+    }
+
+    // Deadlines already due fire on the next advanceTo
+    public void schedule(K key, long deadlineMillis, V value) {
+        cancel(key);
+        long deadlineTick = Math.max((deadlineMillis + tickMillis - 1) / tickMillis, currentTick + 1);
+        Entry<K, V> entry = new Entry<>(key, value, deadlineTick);
+        int bucket = (int) (deadlineTick & mask);
+        entry.next = buckets[bucket];
+        if (entry.next != null) {
+            entry.next.prev = entry;
+        }
+        buckets[bucket] = entry;
+        entries.put(key, entry);
+    }
+
+    public boolean cancel(K key) {
+        Entry<K, V> entry = entries.remove(key);
+        if (entry == null) {
+            return false;
+        }
+        unlink(entry);
+        return true;
+    }
+
+    /**
+     * Removes every entry due by {@code nowMillis} and hands it to {@code onExpire}, which
+     * may schedule or cancel freely. After a gap longer than one revolution each bucket
+     * is visited once. Returns the number of entries expired.
+     */
+    public int advanceTo(long nowMillis, BiConsumer<K, V> onExpire) {
+        long targetTick = nowMillis / tickMillis;
+        if (targetTick <= currentTick) {
+            return 0;
+        }
+        long steps = Math.min(targetTick - currentTick, buckets.length);
+        long fromTick = currentTick;
+        // Moved first so that callbacks rescheduling "now" land on the next tick, not this pass
+        currentTick = targetTick;
+
+        // Unlinked first and handed out after the pass, so callbacks never see a half-walked list
+        List<Entry<K, V>> expired = new ArrayList<>();
+        for (long tick = fromTick + 1; tick <= fromTick + steps; tick++) {
+            Entry<K, V> entry = buckets[(int) (tick & mask)];
+            while (entry != null) {
+                Entry<K, V> next = entry.next;
+                if (entry.deadlineTick <= targetTick) {
+                    entries.remove(entry.key);
+                    unlink(entry);
+                    expired.add(entry);
+                }
+                entry = next;
+            }
+        }
+        expired.forEach(entry -> onExpire.accept(entry.key, entry.value));
+        return expired.size();
+    }
+
+    private void unlink(Entry<K, V> entry) {
+        if (entry.prev != null) {
+            entry.prev.next = entry.next;
+        } else {
+            buckets[(int) (entry.deadlineTick & mask)] = entry.next;
+        }
+        if (entry.next != null) {
+            entry.next.prev = entry.prev;
+        }
+        entry.prev = null;
+        entry.next = null;
+    }
+}
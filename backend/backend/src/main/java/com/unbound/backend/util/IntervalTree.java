@@ -0,0 +1,173 @@
+package com.unbound.backend.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * AVL tree of half-open intervals [start, end) ordered by (start, id), with each
+ * node augmented by the largest end in its subtree. That lets overlap queries
+ * skip whole subtrees: listing k overlaps is O(log n + k).
+ * Not thread-safe; callers guard it.
+ */
+public final class IntervalTree<T> {
+
+    private static final class Node<T> {
+        long start;
+        long end;
+        long id;
+        T value;
+        long maxEnd;
+        int height = 1;
+        Node<T> left;
+        Node<T> right;
+
+        Node(long start, long end, long id, T value) {
+            this.start = start;
+            this.end = end;
+            this.id = id;
+            this.value = value;
+            this.maxEnd = end;
+        }
+    }
+
+    private Node<T> root;
+    private int size;
+
+    public int size() {
+        return size;
+    }
+
+    public void insert(long start, long end, long id, T value) {
+        if (end <= start) {
+            throw new IllegalArgumentException("Interval end must be after its start");
+        }
+        root = insert(root, new Node<>(start, end, id, value));
+        size++;
+    }
+
+    public boolean remove(long start, long id) {
+        int before = size;
+        root = remove(root, start, id);
+        return size < before;
+    }
+
+    // All intervals overlapping [start, end), in start order
+    public List<T> findOverlapping(long start, long end) {
+        List<T> result = new ArrayList<>();
+        collect(root, start, end, result);
+        return result;
+    }
+
+    private void collect(Node<T> node, long start, long end, List<T> result) {
+        if (node == null || node.maxEnd <= start) {
+            return;
+        }
+        collect(node.left, start, end, result);
+        if (node.start >= end) {
+            return;
+        }
+        if (start < node.end) {
+            result.add(node.value);
+        }
+        collect(node.right, start, end, result);
+    }
+
+    // ─── AVL maintenance ─────────────────────────────────────────────────────────
+
+    private static int compare(long startA, long idA, long startB, long idB) {
+        int byStart = Long.compare(startA, startB);
+        return byStart != 0 ? byStart : Long.compare(idA, idB);
+    }
+
+    private Node<T> insert(Node<T> node, Node<T> added) {
+        if (node == null) {
+            return added;
+        }
+        if (compare(added.start, added.id, node.start, node.id) < 0) {
+            node.left = insert(node.left, added);
+        } else {
+            node.right = insert(node.right, added);
+        }
+        return rebalance(node);
+    }
+
+    private Node<T> remove(Node<T> node, long start, long id) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = compare(start, id, node.start, node.id);
+        if (cmp < 0) {
+            node.left = remove(node.left, start, id);
+        } else if (cmp > 0) {
+            node.right = remove(node.right, start, id);
+        } else {
+            size--;
+            if (node.left == null || node.right == null) {
+                return node.left != null ? node.left : node.right;
+            }
+            Node<T> successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            node.start = successor.start;
+            node.end = successor.end;
+            node.id = successor.id;
+            node.value = successor.value;
+            size++; // the successor's removal below decrements again
+            node.right = remove(node.right, successor.start, successor.id);
+        }
+        return rebalance(node);
+    }
+
+    private Node<T> rebalance(Node<T> node) {
+        update(node);
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private Node<T> rotateRight(Node<T> node) {
+        Node<T> pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private Node<T> rotateLeft(Node<T> node) {
+        Node<T> pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static <T> void update(Node<T> node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        long maxEnd = node.end;
+        if (node.left != null) {
+            maxEnd = Math.max(maxEnd, node.left.maxEnd);
+        }
+        if (node.right != null) {
+            maxEnd = Math.max(maxEnd, node.right.maxEnd);
+        }
+        node.maxEnd = maxEnd;
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+}
@@ -0,0 +1,93 @@
+package com.unbound.backend.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Predicate;
+
+/**
+ * Case-insensitive prefix index over short strings (club names, event titles).
+ * Copy-on-write sorted array: readers binary-search an immutable list without
+ * locking, writers copy it under the monitor. Suited to data that is read on
+ * every keystroke and written a few times a day.
+ */
+public final class PrefixIndex<T> {
+
+    private record Entry<T>(String key, long id, T value) {
+    }
+
+    private static final Comparator<Entry<?>> ORDER =
+            Comparator.<Entry<?>, String>comparing(Entry::key).thenComparingLong(Entry::id);
+
+    private volatile List<Entry<T>> entries = List.of();
+
+    public static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    public synchronized void put(long id, String text, T value) {
+        List<Entry<T>> next = new ArrayList<>(entries.size() + 1);
+        for (Entry<T> entry : entries) {
+            if (entry.id() != id) {
+                next.add(entry);
+            }
+        }
+        Entry<T> added = new Entry<>(normalize(text), id, value);
+        int at = Collections.binarySearch(next, added, ORDER);
+        next.add(at < 0 ? -at - 1 : at, added);
+        entries = Collections.unmodifiableList(next);
+    }
+
+    public synchronized void remove(long id) {
+        List<Entry<T>> next = new ArrayList<>(entries);
+        if (next.removeIf(entry -> entry.id() == id)) {
+            entries = Collections.unmodifiableList(next);
+        }
+    }
+
+    // Replaces the whole index in one swap — used for the initial load
+    public synchronized void replaceAll(Collection<Item<T>> items) {
+        List<Entry<T>> next = new ArrayList<>(items.size());
+        for (Item<T> item : items) {
+            next.add(new Entry<>(normalize(item.text()), item.id(), item.value()));
+        }
+        next.sort(ORDER);
+        entries = Collections.unmodifiableList(next);
+    }
+
+    /**
+     * Values whose text starts with {@code prefix} (ignoring case), in key order,
+     * skipping those rejected by {@code filter}.
+     */
+    public List<T> search(String prefix, int limit, Predicate<T> filter) {
+        String key = normalize(prefix);
+        List<Entry<T>> snapshot = entries;
+        List<T> result = new ArrayList<>(Math.min(limit, 16));
+
+        for (int i = lowerBound(snapshot, key); i < snapshot.size() && result.size() < limit; i++) {
+            Entry<T> entry = snapshot.get(i);
+            if (!entry.key().startsWith(key)) {
+                break;
+            }
+            if (filter.test(entry.value())) {
+                result.add(entry.value());
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private static <T> int lowerBound(List<Entry<T>> snapshot, String key) {
+        int at = Collections.binarySearch(snapshot, new Entry<T>(key, Long.MIN_VALUE, null), ORDER);
+        return at < 0 ? -at - 1 : at;
+    }
+
+    public record Item<T>(long id, String text, T value) {
+    }
+}
@@ -0,0 +1,12 @@
+-- Shared rate limit counters for app.rate-limit.store=jdbc
+-- Run this migration before enabling the shared store on multiple nodes
+
+CREATE TABLE IF NOT EXISTS rate_limit_counters (
+    bucket_key   VARCHAR(255) PRIMARY KEY,
+    window_start BIGINT       NOT NULL,
+    hits         INTEGER      NOT NULL,
+    rejected     INTEGER      NOT NULL DEFAULT 0
+);
+
+-- Lets a periodic cleanup drop counters from long-expired windows
+CREATE INDEX IF NOT EXISTS idx_rate_limit_counters_window ON rate_limit_counters(window_start);
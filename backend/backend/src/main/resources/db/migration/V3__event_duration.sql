@@ -0,0 +1,7 @@
+-- Venue double-booking checks: events carry a duration (minutes)
+-- Existing rows keep NULL and are treated as 60-minute bookings
+
+ALTER TABLE events ADD COLUMN IF NOT EXISTS duration_minutes INTEGER;
+
+-- Venue schedule lookups when the index is (re)loaded
+CREATE INDEX IF NOT EXISTS idx_events_venue_date ON events(venue, event_date);
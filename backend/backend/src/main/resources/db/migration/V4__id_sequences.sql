@@ -0,0 +1,40 @@
+-- Move primary keys from IDENTITY to pooled sequences (allocationSize = 50) so Hibernate can batch inserts
+-- Run this BEFORE deploying the sequence-based entities: with ddl-auto=update Hibernate would otherwise
+-- create the sequences itself starting at 1 and collide with existing ids.
+--
+-- INCREMENT BY must match allocationSize. The pooled optimizer hands out (value - 49 .. value], so each
+-- sequence is positioned one full block past the current MAX(id). Identity defaults stay on the columns
+-- and are simply no longer used.
+
+CREATE SEQUENCE IF NOT EXISTS users_seq INCREMENT BY 50;
+SELECT setval('users_seq', COALESCE((SELECT MAX(id) FROM users), 0) + 50);
+
+CREATE SEQUENCE IF NOT EXISTS colleges_seq INCREMENT BY 50;
+SELECT setval('colleges_seq', COALESCE((SELECT MAX(id) FROM colleges), 0) + 50);
+
+CREATE SEQUENCE IF NOT EXISTS clubs_seq INCREMENT BY 50;
+SELECT setval('clubs_seq', COALESCE((SELECT MAX(id) FROM clubs), 0) + 50);
+
+CREATE SEQUENCE IF NOT EXISTS fests_seq INCREMENT BY 50;
+SELECT setval('fests_seq', COALESCE((SELECT MAX(id) FROM fests), 0) + 50);
+
+CREATE SEQUENCE IF NOT EXISTS events_seq INCREMENT BY 50;
+SELECT setval('events_seq', COALESCE((SELECT MAX(id) FROM events), 0) + 50);
+
+CREATE SEQUENCE IF NOT EXISTS registrations_seq INCREMENT BY 50;
+SELECT setval('registrations_seq', COALESCE((SELECT MAX(id) FROM registrations), 0) + 50);
+
+CREATE SEQUENCE IF NOT EXISTS payments_seq INCREMENT BY 50;
+SELECT setval('payments_seq', COALESCE((SELECT MAX(id) FROM payments), 0) + 50);
+
+CREATE SEQUENCE IF NOT EXISTS teams_seq INCREMENT BY 50;
+SELECT setval('teams_seq', COALESCE((SELECT MAX(id) FROM teams), 0) + 50);
+
+CREATE SEQUENCE IF NOT EXISTS announcements_seq INCREMENT BY 50;
+SELECT setval('announcements_seq', COALESCE((SELECT MAX(id) FROM announcements), 0) + 50);
+
+CREATE SEQUENCE IF NOT EXISTS attendance_seq INCREMENT BY 50;
+SELECT setval('attendance_seq', COALESCE((SELECT MAX(id) FROM attendance), 0) + 50);
+
+CREATE SEQUENCE IF NOT EXISTS certificates_seq INCREMENT BY 50;
+SELECT setval('certificates_seq', COALESCE((SELECT MAX(id) FROM certificates), 0) + 50);
@@ -0,0 +1,15 @@
+-- Event lifecycle scheduler: registration cutoff flag and the shared job lock table
+-- Existing events start open; the first scheduler run closes the ones past their cutoff
+
+ALTER TABLE events ADD COLUMN IF NOT EXISTS registration_open BOOLEAN NOT NULL DEFAULT TRUE;
+
+-- Only events whose registration is still open are scanned for the cutoff, a small set
+CREATE INDEX IF NOT EXISTS idx_events_registration_open_date ON events(event_date) WHERE registration_open;
+
+-- One row per scheduled job; the node holding an unexpired lease runs it
+CREATE TABLE IF NOT EXISTS scheduler_locks (
+    name         VARCHAR(64)  PRIMARY KEY,
+    locked_until TIMESTAMP    NOT NULL,
+    locked_at    TIMESTAMP    NOT NULL,
+    locked_by    VARCHAR(255) NOT NULL
+);
@@ -0,0 +1,17 @@
+-- Seat holds for paid-event checkout: one row per pending payment, deleted when the hold ends
+-- Sequence INCREMENT BY matches the entity's allocationSize (see V4__id_sequences.sql)
+
+CREATE SEQUENCE IF NOT EXISTS seat_holds_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS seat_holds (
+    id         BIGINT    PRIMARY KEY,
+    user_id    BIGINT    NOT NULL REFERENCES users(id),
+    event_id   BIGINT    NOT NULL REFERENCES events(id),
+    payment_id BIGINT    NOT NULL UNIQUE REFERENCES payments(id),
+    expires_at TIMESTAMP NOT NULL,
+    created_at TIMESTAMP,
+    CONSTRAINT uk_seat_holds_user_event UNIQUE (user_id, event_id)
+);
+
+-- Capacity checks count an event's unexpired holds under the event lock
+CREATE INDEX IF NOT EXISTS idx_seat_holds_event_expires ON seat_holds(event_id, expires_at);
@@ -0,0 +1,6 @@
+-- REFUND_PENDING: captured after the seat hold lapsed and the event filled up
+-- Schema update created the enum check for the original four statuses; widen it
+
+ALTER TABLE payments DROP CONSTRAINT IF EXISTS payments_status_check;
+ALTER TABLE payments ADD CONSTRAINT payments_status_check
+    CHECK (status IN ('PENDING', 'SUCCESS', 'FAILED', 'REFUND_PENDING', 'REFUNDED'));
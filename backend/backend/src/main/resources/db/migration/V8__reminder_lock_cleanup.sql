@@ -0,0 +1,4 @@
+-- Reminder leases (reminder-<eventId>-<lead>m) used to be kept forever; the scheduler now
+-- deletes them when the event ends. Drop the backlog: an expired lease no longer guards anything
+
+DELETE FROM scheduler_locks WHERE name LIKE 'reminder-%' AND locked_until < CURRENT_TIMESTAMP;
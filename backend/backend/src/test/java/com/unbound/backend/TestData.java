@@ -0,0 +1,96 @@
+package com.unbound.backend;
+
+import com.unbound.backend.entity.Club;
+import com.unbound.backend.entity.College;
+import com.unbound.backend.entity.Event;
+import com.unbound.backend.entity.User;
+import com.unbound.backend.enums.ClubStatus;
+import com.unbound.backend.enums.EventCategory;
+import com.unbound.backend.enums.EventStatus;
+import com.unbound.backend.enums.Role;
+import com.unbound.backend.repository.ClubRepository;
+import com.unbound.backend.repository.CollegeRepository;
+import com.unbound.backend.repository.EventRepository;
+import com.unbound.backend.repository.UserRepository;
+import org.springframework.boot.test.context.TestComponent;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Seeds the College, owner, Club and Event rows most tests start from. Tests share
+ * one database per context, so every name and email carries the run suffix from
+ * {@link #newRun()}. Pull it in with {@code @Import(TestData.class)}.
+ */
+@TestComponent
+public class TestData {
+
+	private final CollegeRepository collegeRepository;
+	private final UserRepository userRepository;
+	private final ClubRepository clubRepository;
+	private final EventRepository eventRepository;
+	// Keeps names unique when one run seeds several colleges or clubs
+	private final AtomicInteger sequence = new AtomicInteger();
+
+	public TestData(CollegeRepository collegeRepository, UserRepository userRepository,
+			ClubRepository clubRepository, EventRepository eventRepository) {
+		this.collegeRepository = collegeRepository;
+		this.userRepository = userRepository;
+		this.clubRepository = clubRepository;
+		this.eventRepository = eventRepository;
+	}
+
+	public static String newRun() {
+		return UUID.randomUUID().toString().substring(0, 8);
+	}
+
+	public College college(String run) {
+		return collegeRepository.save(College.builder()
+				.name("College " + sequence.incrementAndGet() + " " + run)
+				.build());
+	}
+
+	// The email is derived from the name, so names must differ within a run
+	public User user(String run, String name, Role role) {
+		return userRepository.save(User.builder()
+				.name(name)
+				.email(name.replaceAll("[^A-Za-z0-9]", "").toLowerCase(Locale.ROOT) + "-" + run + "@unbound.test")
+				.password("not-used")
+				.role(role)
+				.build());
+	}
+
+	// An approved club with its own CLUB_ADMIN owner, available as getCreatedBy()
+	public Club club(String run, College college) {
+		int n = sequence.incrementAndGet();
+		return clubRepository.save(Club.builder()
+				.name("Club " + n + " " + run)
+				.category("TECHNICAL")
+				.contactEmail("club-" + n + "-" + run + "@unbound.test")
+				.college(college)
+				.status(ClubStatus.APPROVED)
+				.createdBy(user(run, "Club Owner " + n, Role.CLUB_ADMIN))
+				.build());
+	}
+
+	public Club club(String run) {
+		return club(run, college(run));
+	}
+
+	// A published event a week out with ten seats; override fields before save
+	public Event.EventBuilder event(Club club) {
+		return Event.builder()
+				.title("Event " + sequence.incrementAndGet() + " " + club.getName())
+				.eventDate(LocalDateTime.now().plusDays(7))
+				.maxParticipants(10)
+				.category(EventCategory.TECHNICAL)
+				.status(EventStatus.PUBLISHED)
+				.club(club);
+	}
+
+	public Event save(Event.EventBuilder event) {
+		return eventRepository.save(event.build());
+	}
+}
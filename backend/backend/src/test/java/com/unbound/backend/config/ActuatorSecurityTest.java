@@ -0,0 +1,76 @@
+package com.unbound.backend.config;
+
+import com.unbound.backend.TestData;
+import com.unbound.backend.enums.Role;
+import com.unbound.backend.security.JwtUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Metrics export is off in tests unless asked for
+@AutoConfigureObservability(tracing = false)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+		properties = {
+				"management.server.port=0",
+				"management.endpoints.web.exposure.include=health,metrics,ratelimits,prometheus" })
+@Import(TestData.class)
+class ActuatorSecurityTest {
+
+	@Autowired private TestData testData;
+	@Autowired private JwtUtil jwtUtil;
+
+	private final HttpClient http = HttpClient.newHttpClient();
+
+	@LocalServerPort private int serverPort;
+	@LocalManagementPort private int managementPort;
+
+	@Test
+	void prometheusScrapeIsOnlyOpenOnTheManagementPort() throws Exception {
+		HttpResponse<String> scrape = get(managementPort, "/actuator/prometheus");
+		assertEquals(200, scrape.statusCode());
+		assertTrue(scrape.body().contains("# TYPE jvm_memory_used_bytes gauge"), scrape.body());
+
+		// Not served to the public port, and not readable there without a token
+		assertTrue(get(serverPort, "/actuator/prometheus").statusCode() >= 400);
+		// Health stays public (503 here only because the test mail server is absent)
+		assertTrue(get(managementPort, "/actuator/health").statusCode() != 401);
+	}
+
+	@Test
+	void onlySuperAdminsReadRateLimitsAndMetrics() throws Exception {
+		String run = TestData.newRun();
+		String student = jwtUtil.generateToken(testData.user(run, "Student", Role.STUDENT));
+		String superAdmin = jwtUtil.generateToken(testData.user(run, "Super Admin", Role.SUPER_ADMIN));
+
+		for (String path : new String[] { "/actuator/ratelimits", "/actuator/metrics" }) {
+			assertEquals(403, get(managementPort, path).statusCode(), path);
+			assertEquals(403, get(managementPort, path, student).statusCode(), path);
+			assertEquals(200, get(managementPort, path, superAdmin).statusCode(), path);
+		}
+	}
+
+	private HttpResponse<String> get(int port, String path) throws Exception {
+		return http.send(request(port, path).build(), HttpResponse.BodyHandlers.ofString());
+	}
+
+	private HttpResponse<String> get(int port, String path, String token) throws Exception {
+		return http.send(request(port, path).header("Authorization", "Bearer " + token).build(),
+				HttpResponse.BodyHandlers.ofString());
+	}
+
+	private HttpRequest.Builder request(int port, String path) {
+		return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET();
+	}
+}
@@ -0,0 +1,87 @@
+package com.unbound.backend.controller;
+
+import com.unbound.backend.TestData;
+import com.unbound.backend.entity.Club;
+import com.unbound.backend.entity.College;
+import com.unbound.backend.entity.Event;
+import com.unbound.backend.entity.Fest;
+import com.unbound.backend.entity.Registration;
+import com.unbound.backend.entity.User;
+import com.unbound.backend.enums.RegistrationStatus;
+import com.unbound.backend.enums.Role;
+import com.unbound.backend.metrics.SqlStatementStatsFilter;
+import com.unbound.backend.repository.FestRepository;
+import com.unbound.backend.repository.RegistrationRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(TestData.class)
+class FestOverviewQueryBudgetTest {
+
+	// fest + college, published events, their clubs, seat counts
+	private static final int MAX_STATEMENTS = 4;
+
+	@Autowired private MockMvc mockMvc;
+	@Autowired private TestData testData;
+	@Autowired private FestRepository festRepository;
+	@Autowired private RegistrationRepository registrationRepository;
+
+	@Test
+	@WithMockUser
+	void overviewStaysWithinQueryBudgetRegardlessOfEventCount() throws Exception {
+		String run = TestData.newRun();
+		College college = testData.college(run);
+		Fest fest = festRepository.save(Fest.builder()
+				.name("Fest " + run)
+				.college(college)
+				.startDate(LocalDate.now().plusDays(10))
+				.endDate(LocalDate.now().plusDays(12))
+				.build());
+
+		List<User> students = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			students.add(testData.user(run, "Student " + i, Role.STUDENT));
+		}
+
+		for (int c = 0; c < 3; c++) {
+			Club club = testData.club(run, college);
+			for (int e = 0; e < 2; e++) {
+				Event event = testData.save(testData.event(club)
+						.venue("Hall " + run + " " + c + e)
+						.eventDate(LocalDateTime.now().plusDays(10).plusHours(c * 2L + e))
+						.maxParticipants(100)
+						.fest(fest));
+				for (User student : students) {
+					registrationRepository.save(Registration.builder()
+							.user(student)
+							.event(event)
+							.status(RegistrationStatus.CONFIRMED)
+							.build());
+				}
+			}
+		}
+
+		MvcResult result = mockMvc.perform(get("/api/fests/{id}/overview", fest.getId())).andReturn();
+
+		assertEquals(200, result.getResponse().getStatus());
+		int statements = Integer.parseInt(result.getResponse().getHeader(SqlStatementStatsFilter.COUNT_HEADER));
+		assertTrue(statements <= MAX_STATEMENTS, "overview ran " + statements + " statements");
+	}
+}
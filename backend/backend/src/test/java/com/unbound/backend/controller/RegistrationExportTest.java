@@ -0,0 +1,81 @@
+package com.unbound.backend.controller;
+
+import com.unbound.backend.TestData;
+import com.unbound.backend.entity.Club;
+import com.unbound.backend.entity.Event;
+import com.unbound.backend.entity.Registration;
+import com.unbound.backend.entity.User;
+import com.unbound.backend.enums.RegistrationStatus;
+import com.unbound.backend.enums.Role;
+import com.unbound.backend.metrics.SqlStatementStatsFilter;
+import com.unbound.backend.repository.RegistrationRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(TestData.class)
+class RegistrationExportTest {
+
+	@Autowired private MockMvc mockMvc;
+	@Autowired private TestData testData;
+	@Autowired private RegistrationRepository registrationRepository;
+
+	@Test
+	void exportStreamsOneCsvRowPerRegistration() throws Exception {
+		String run = TestData.newRun();
+		Club club = testData.club(run);
+		User owner = club.getCreatedBy();
+		Event event = testData.save(testData.event(club));
+		for (String name : new String[] {"Plain Name", "Doe, Jane", "=HYPERLINK(\"x\")"}) {
+			registrationRepository.save(Registration.builder()
+					.user(testData.user(run, name, Role.STUDENT))
+					.event(event)
+					.status(RegistrationStatus.CONFIRMED)
+					.build());
+		}
+
+		MvcResult result = mockMvc.perform(get("/api/registrations/event/{id}/export.csv", event.getId())
+				.with(SecurityMockMvcRequestPostProcessors.user(owner.getEmail()).roles("CLUB_ADMIN"))).andReturn();
+
+		assertEquals(200, result.getResponse().getStatus());
+		assertTrue(result.getResponse().getContentType().startsWith("text/csv"));
+		// Streamed straight through, not buffered by the SQL stats filter
+		assertNull(result.getResponse().getHeader(SqlStatementStatsFilter.COUNT_HEADER));
+
+		String[] lines = result.getResponse().getContentAsString().split("\r\n");
+		assertEquals(4, lines.length);
+		assertEquals("registration_id,user_id,name,email,status,registered_at", lines[0]);
+		assertTrue(lines[2].contains(",\"Doe, Jane\","), lines[2]);
+		assertTrue(lines[3].contains(",\"'=HYPERLINK(\"\"x\"\")\","), lines[3]);
+
+		// Another club's admin gets an error, not the attendee list
+		User otherAdmin = testData.club(run).getCreatedBy();
+		MvcResult denied = mockMvc.perform(get("/api/registrations/event/{id}/export.csv", event.getId())
+				.with(SecurityMockMvcRequestPostProcessors.user(otherAdmin.getEmail()).roles("CLUB_ADMIN"))).andReturn();
+
+		assertEquals(400, denied.getResponse().getStatus());
+		assertNull(denied.getResponse().getHeader("Content-Disposition"));
+	}
+
+	@Test
+	@WithMockUser(roles = "CLUB_ADMIN")
+	void unknownEventIsAJsonNotFound() throws Exception {
+		MvcResult result = mockMvc.perform(get("/api/registrations/event/{id}/export.csv", 999_999_999L)).andReturn();
+
+		assertEquals(404, result.getResponse().getStatus());
+		assertNull(result.getResponse().getHeader("Content-Disposition"));
+	}
+}
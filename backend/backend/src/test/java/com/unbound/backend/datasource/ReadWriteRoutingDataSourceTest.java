@@ -0,0 +1,107 @@
+package com.unbound.backend.datasource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class ReadWriteRoutingDataSourceTest {
+
+	private final AtomicBoolean replicaUsable = new AtomicBoolean(true);
+	private JdbcTemplate jdbc;
+	private TransactionTemplate readOnly;
+	private TransactionTemplate readWrite;
+
+	@BeforeEach
+	void setUp() {
+		DataSource primary = h2("routing_primary", "primary");
+		DataSource replica = h2("routing_replica", "replica");
+		DataSource routing = ReadWriteRoutingDataSource.lazy(new ReadWriteRoutingDataSource(
+				primary, replica, new ReadYourWritesTracker(Duration.ofMinutes(1), 100), replicaUsable::get));
+
+		DataSourceTransactionManager txManager = new DataSourceTransactionManager(routing);
+		jdbc = new JdbcTemplate(routing);
+		readWrite = new TransactionTemplate(txManager);
+		readOnly = new TransactionTemplate(txManager);
+		readOnly.setReadOnly(true);
+	}
+
+	@AfterEach
+	void clearAuthentication() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void readOnlyTransactionsGoToReplica() {
+		assertEquals("replica", readOnly.execute(status -> node()));
+		assertEquals("primary", readWrite.execute(status -> node()));
+		assertEquals("primary", node());
+	}
+
+	@Test
+	void writerReadsOwnWritesFromPrimary() {
+		authenticate("writer@example.com");
+		assertEquals("replica", readOnly.execute(status -> node()));
+		readWrite.executeWithoutResult(status -> node());
+		assertEquals("primary", readOnly.execute(status -> node()));
+
+		authenticate("someone-else@example.com");
+		assertEquals("replica", readOnly.execute(status -> node()));
+	}
+
+	@Test
+	void laggingReplicaIsBypassed() {
+		replicaUsable.set(false);
+		assertEquals("primary", readOnly.execute(status -> node()));
+	}
+
+	@Test
+	void forcedPrimaryScopeOverridesReplica() {
+		assertEquals("primary", ReadWriteRoutingDataSource.onPrimary(() -> readOnly.execute(status -> node())));
+		assertEquals("replica", readOnly.execute(status -> node()));
+	}
+
+	@Test
+	void replicaReadsAreFlaggedUntilCompletion() {
+		assertEquals(Boolean.TRUE, readOnly.execute(status -> readsReplica()));
+		assertFalse(ReadWriteRoutingDataSource.isReadingReplica());
+		assertEquals(Boolean.FALSE, readWrite.execute(status -> readsReplica()));
+	}
+
+	private boolean readsReplica() {
+		node();
+		return ReadWriteRoutingDataSource.isReadingReplica();
+	}
+
+	private String node() {
+		return jdbc.queryForObject("SELECT name FROM node", String.class);
+	}
+
+	private static void authenticate(String email) {
+		SecurityContextHolder.getContext().setAuthentication(
+				new UsernamePasswordAuthenticationToken(email, null, List.of()));
+	}
+
+	private static DataSource h2(String db, String name) {
+		JdbcDataSource dataSource = new JdbcDataSource();
+		dataSource.setURL("jdbc:h2:mem:" + db + ";DB_CLOSE_DELAY=-1");
+		JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+		jdbc.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(16))");
+		jdbc.update("DELETE FROM node");
+		jdbc.update("INSERT INTO node VALUES (?)", name);
+		return dataSource;
+	}
+}
@@ -0,0 +1,78 @@
+package com.unbound.backend.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenBucketTest {
+
+	private static final long MILLI = 1_000_000L;
+
+	@Test
+	void refillsContinuouslyUpToCapacity() {
+		// Two tokens per second: one every 500ms
+		TokenBucket bucket = new TokenBucket(new RateLimitPolicy(2, Duration.ofSeconds(1)), 0);
+
+		assertEquals(0, bucket.tryConsume(0));
+		assertEquals(0, bucket.tryConsume(0));
+		assertEquals(500 * MILLI, bucket.tryConsume(0));
+		assertEquals(100 * MILLI, bucket.tryConsume(400 * MILLI));
+		assertEquals(0, bucket.tryConsume(500 * MILLI));
+
+		// A long idle spell refills to capacity, never past it
+		long later = 60_000 * MILLI;
+		assertEquals(0, bucket.tryConsume(later));
+		assertEquals(0, bucket.tryConsume(later));
+		assertTrue(bucket.tryConsume(later) > 0);
+		assertEquals(5, bucket.allowed());
+		assertEquals(3, bucket.rejected());
+	}
+
+	@Test
+	void concurrentTakesNeverExceedCapacity() throws Exception {
+		int capacity = 1_000;
+		int threads = 8;
+		int attemptsPerThread = 500;
+		// Frozen clock, so no token is refilled while the threads race
+		TokenBucket bucket = new TokenBucket(new RateLimitPolicy(capacity, Duration.ofHours(1)), 0);
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Integer>> results = new ArrayList<>();
+
+		try {
+			for (int t = 0; t < threads; t++) {
+				results.add(pool.submit(() -> {
+					start.await();
+					int taken = 0;
+					for (int i = 0; i < attemptsPerThread; i++) {
+						if (bucket.tryConsume(0) == 0) {
+							taken++;
+						}
+					}
+					return taken;
+				}));
+			}
+			start.countDown();
+
+			int taken = 0;
+			for (Future<Integer> result : results) {
+				taken += result.get(30, TimeUnit.SECONDS);
+			}
+			assertEquals(capacity, taken);
+			assertEquals(capacity, bucket.allowed());
+			assertEquals(threads * attemptsPerThread - capacity, bucket.rejected());
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+}
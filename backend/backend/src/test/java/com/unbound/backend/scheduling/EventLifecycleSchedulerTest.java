@@ -0,0 +1,102 @@
+package com.unbound.backend.scheduling;
+
+import com.unbound.backend.TestData;
+import com.unbound.backend.entity.Club;
+import com.unbound.backend.entity.Event;
+import com.unbound.backend.enums.EventStatus;
+import com.unbound.backend.event.EventChangedEvent;
+import com.unbound.backend.repository.EventRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "app.events.lifecycle.batch-size=2")
+@RecordApplicationEvents
+@Import(TestData.class)
+class EventLifecycleSchedulerTest {
+
+	@Autowired private EventLifecycleScheduler scheduler;
+	@Autowired private ScheduledJobLock jobLock;
+	@Autowired private ApplicationEvents applicationEvents;
+	@Autowired private TestData testData;
+	@Autowired private EventRepository eventRepository;
+	@Autowired private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void advanceCompletesPastEventsAndMovesTheRegistrationCutoff() {
+		Club club = testData.club(TestData.newRun());
+		LocalDateTime now = LocalDateTime.now();
+		// More rows than one batch of 2 in each transition
+		Event past1 = event(club, now.minusDays(2), EventStatus.PUBLISHED, true);
+		Event past2 = event(club, now.minusDays(3), EventStatus.PUBLISHED, true);
+		Event past3 = event(club, now.minusDays(4), EventStatus.PUBLISHED, true);
+		Event pastDraft = event(club, now.minusDays(2), EventStatus.DRAFT, true);
+		Event startingSoon = event(club, now.plusMinutes(30), EventStatus.PUBLISHED, true);
+		Event movedLater = event(club, now.plusDays(3), EventStatus.PUBLISHED, false);
+		Event upcoming = event(club, now.plusDays(3), EventStatus.PUBLISHED, true);
+		// Reminder leases left from before the events started
+		jobLock.runLocked("reminder-" + past1.getId() + "-60m", Duration.ofMinutes(1), Duration.ofHours(1), () -> { });
+		jobLock.runLocked("reminder-" + upcoming.getId() + "-1440m", Duration.ofMinutes(1), Duration.ofHours(1), () -> { });
+
+		scheduler.advance();
+
+		for (Event event : new Event[] {past1, past2, past3}) {
+			Event reloaded = eventRepository.findById(event.getId()).orElseThrow();
+			assertEquals(EventStatus.COMPLETED, reloaded.getStatus());
+			assertFalse(reloaded.isRegistrationOpen());
+			assertTrue(applicationEvents.stream(EventChangedEvent.class).anyMatch(changed ->
+					changed.eventId().equals(event.getId()) && changed.status() == EventStatus.COMPLETED));
+		}
+		assertEquals(EventStatus.DRAFT, eventRepository.findById(pastDraft.getId()).orElseThrow().getStatus());
+		assertFalse(eventRepository.findById(startingSoon.getId()).orElseThrow().isRegistrationOpen());
+		assertEquals(EventStatus.PUBLISHED, eventRepository.findById(startingSoon.getId()).orElseThrow().getStatus());
+		assertTrue(eventRepository.findById(movedLater.getId()).orElseThrow().isRegistrationOpen());
+		assertTrue(eventRepository.findById(upcoming.getId()).orElseThrow().isRegistrationOpen());
+
+		// Completing an event drops its reminder leases; other events keep theirs
+		assertEquals(0, reminderLocks(past1));
+		assertEquals(1, reminderLocks(upcoming));
+	}
+
+	@Test
+	void jobRunsOnOneHolderUntilTheLeaseEnds() {
+		String job = "test-" + UUID.randomUUID();
+		AtomicBoolean nestedRan = new AtomicBoolean();
+
+		boolean ran = jobLock.runLocked(job, Duration.ofMinutes(1), Duration.ZERO, () ->
+				nestedRan.set(jobLock.runLocked(job, Duration.ofMinutes(1), Duration.ZERO, () -> { })));
+
+		assertTrue(ran);
+		assertFalse(nestedRan.get(), "a second holder ran while the lease was taken");
+		// Released with lockAtLeastFor = 0, so the next run gets it
+		assertTrue(jobLock.runLocked(job, Duration.ofMinutes(1), Duration.ZERO, () -> { }));
+		// Kept for lockAtLeastFor after finishing
+		assertTrue(jobLock.runLocked(job, Duration.ofMinutes(1), Duration.ofMinutes(1), () -> { }));
+		assertFalse(jobLock.runLocked(job, Duration.ofMinutes(1), Duration.ZERO, () -> { }));
+	}
+
+	private int reminderLocks(Event event) {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM scheduler_locks WHERE name LIKE ?",
+				Integer.class, "reminder-" + event.getId() + "-%");
+	}
+
+	private Event event(Club club, LocalDateTime date, EventStatus status, boolean registrationOpen) {
+		return testData.save(testData.event(club)
+				.eventDate(date)
+				.status(status)
+				.registrationOpen(registrationOpen));
+	}
+}
@@ -0,0 +1,211 @@
+package com.unbound.backend.service;
+
+import com.unbound.backend.TestData;
+import com.unbound.backend.entity.Club;
+import com.unbound.backend.entity.Event;
+import com.unbound.backend.enums.RegistrationStatus;
+import com.unbound.backend.enums.Role;
+import com.unbound.backend.exception.BadRequestException;
+import com.unbound.backend.repository.RegistrationRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Fires concurrent registrations and cancellations at a few events and checks that
+ * no event ever ends up with more CONFIRMED registrations than maxParticipants.
+ * Half of the traffic goes to one hot event so its lock is contended. Prints
+ * throughput, latency percentiles and the unbound.registration.lock.wait timer.
+ * <p>
+ * Only runs under {@code mvn test -Pload-test}. Sizes come from system properties
+ * (load.events, load.students, load.capacity, load.operations, load.threads,
+ * load.cancel-ratio, load.seed); load.db.url points it at a real Postgres.
+ */
+@Tag("load")
+@SpringBootTest(properties = {
+		// Separate in-memory DB from the other tests; H2's 1s default lock timeout is too short here
+		"spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=30000",
+		"logging.level.com.unbound.backend=WARN"
+})
+@Import(TestData.class)
+class RegistrationLoadTest {
+
+	private static final int EVENTS = Integer.getInteger("load.events", 20);
+	private static final int STUDENTS = Integer.getInteger("load.students", 500);
+	private static final int CAPACITY = Integer.getInteger("load.capacity", 25);
+	private static final int OPERATIONS = Integer.getInteger("load.operations", 5000);
+	private static final int THREADS = Integer.getInteger("load.threads", 32);
+	private static final double CANCEL_RATIO = Double.parseDouble(System.getProperty("load.cancel-ratio", "0.2"));
+	private static final long SEED = Long.getLong("load.seed", 42L);
+
+	@DynamicPropertySource
+	static void postgres(DynamicPropertyRegistry registry) {
+		String url = System.getProperty("load.db.url");
+		if (url == null || url.isBlank()) {
+			return;
+		}
+		registry.add("spring.datasource.url", () -> url);
+		registry.add("spring.datasource.username", () -> System.getProperty("load.db.username", "postgres"));
+		registry.add("spring.datasource.password", () -> System.getProperty("load.db.password", "postgres"));
+		registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+		registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.PostgreSQLDialect");
+		registry.add("spring.datasource.hikari.maximum-pool-size", () -> THREADS);
+	}
+
+	@MockitoBean private EmailService emailService;
+
+	@Autowired private RegistrationService registrationService;
+	@Autowired private TestData testData;
+	@Autowired private RegistrationRepository registrationRepository;
+	@Autowired private MeterRegistry meterRegistry;
+
+	@Test
+	void capacityIsNeverExceededUnderConcurrentRegistrations() throws Exception {
+		String run = TestData.newRun();
+		List<Event> events = seedEvents(run);
+		List<String> students = seedStudents(run);
+
+		AtomicInteger registered = new AtomicInteger();
+		AtomicInteger cancelled = new AtomicInteger();
+		AtomicInteger rejected = new AtomicInteger();
+		AtomicInteger full = new AtomicInteger();
+		AtomicInteger conflicts = new AtomicInteger();
+		List<Throwable> errors = Collections.synchronizedList(new ArrayList<>());
+		long[] latencies = new long[OPERATIONS];
+
+		SplittableRandom random = new SplittableRandom(SEED);
+		ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+		List<Future<?>> futures = new ArrayList<>(OPERATIONS);
+		long started = System.nanoTime();
+		for (int i = 0; i < OPERATIONS; i++) {
+			int op = i;
+			// Half the traffic on event 0, the rest spread evenly
+			Long eventId = events.get(random.nextBoolean() ? 0 : random.nextInt(events.size())).getId();
+			String email = students.get(random.nextInt(students.size()));
+			boolean cancel = random.nextDouble() < CANCEL_RATIO;
+			futures.add(pool.submit(() -> {
+				SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(email, null));
+				long t0 = System.nanoTime();
+				try {
+					if (cancel) {
+						registrationService.cancelRegistration(eventId);
+						cancelled.incrementAndGet();
+					} else {
+						registrationService.registerForEvent(eventId);
+						registered.incrementAndGet();
+					}
+				} catch (BadRequestException ex) {
+					// full, already registered, or nothing to cancel
+					rejected.incrementAndGet();
+					if (ex.getMessage().startsWith("Event is full")) {
+						full.incrementAndGet();
+					}
+				} catch (DataIntegrityViolationException ex) {
+					// (user, event) unique key caught a duplicate the exists-check raced past
+					conflicts.incrementAndGet();
+				} catch (Throwable ex) {
+					errors.add(ex);
+				} finally {
+					latencies[op] = System.nanoTime() - t0;
+					SecurityContextHolder.clearContext();
+				}
+			}));
+		}
+		for (Future<?> future : futures) {
+			future.get();
+		}
+		long elapsed = System.nanoTime() - started;
+		pool.shutdown();
+		assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+
+		report(elapsed, latencies, registered.get(), cancelled.get(), rejected.get(), full.get(), conflicts.get());
+
+		assertTrue(errors.isEmpty(), () -> errors.size() + " unexpected errors, first: " + errors.get(0));
+		for (Event event : events) {
+			int confirmed = registrationRepository.countByEventAndStatus(event, RegistrationStatus.CONFIRMED);
+			assertTrue(confirmed <= event.getMaxParticipants(),
+					() -> "Event " + event.getId() + " overbooked: " + confirmed + "/" + event.getMaxParticipants());
+		}
+		// Some registrations must have hit a full event, otherwise the capacity check was never contended
+		assertTrue(full.get() > 0, "No registration was refused as full; raise load.operations or lower load.capacity");
+	}
+
+	private List<Event> seedEvents(String run) {
+		Club club = testData.club(run);
+		List<Event> events = new ArrayList<>(EVENTS);
+		for (int i = 0; i < EVENTS; i++) {
+			events.add(testData.save(testData.event(club)
+					.venue("Hall " + (i % 5))
+					.maxParticipants(CAPACITY)));
+		}
+		return events;
+	}
+
+	private List<String> seedStudents(String run) {
+		List<String> emails = new ArrayList<>(STUDENTS);
+		for (int i = 0; i < STUDENTS; i++) {
+			emails.add(testData.user(run, "Load Student " + i, Role.STUDENT).getEmail());
+		}
+		return emails;
+	}
+
+	private void report(long elapsedNanos, long[] latencies, int registered, int cancelled,
+	                    int rejected, int full, int conflicts) {
+		long[] sorted = latencies.clone();
+		Arrays.sort(sorted);
+		double seconds = elapsedNanos / 1e9;
+
+		System.out.printf("%nRegistration load: %d ops on %d threads, %d events x %d seats, %d students%n",
+				OPERATIONS, THREADS, EVENTS, CAPACITY, STUDENTS);
+		System.out.printf("  outcome     registered=%d cancelled=%d rejected=%d (full=%d) conflicts=%d%n",
+				registered, cancelled, rejected, full, conflicts);
+		System.out.printf("  throughput  %.0f ops/s (%.2f s)%n", OPERATIONS / seconds, seconds);
+		System.out.printf("  latency     p50=%.2f ms p99=%.2f ms max=%.2f ms%n",
+				millis(percentile(sorted, 0.50)), millis(percentile(sorted, 0.99)), millis(sorted[sorted.length - 1]));
+
+		Timer lockWait = meterRegistry.find("unbound.registration.lock.wait").timer();
+		if (lockWait != null) {
+			HistogramSnapshot snapshot = lockWait.takeSnapshot();
+			StringBuilder line = new StringBuilder("  lock wait  ");
+			for (ValueAtPercentile value : snapshot.percentileValues()) {
+				line.append(String.format(" p%.0f=%.2f ms", value.percentile() * 100, value.value(TimeUnit.MILLISECONDS)));
+			}
+			line.append(String.format(" max=%.2f ms total=%.2f s",
+					snapshot.max(TimeUnit.MILLISECONDS), snapshot.total(TimeUnit.SECONDS)));
+			System.out.println(line);
+		}
+	}
+
+	private static long percentile(long[] sorted, double p) {
+		return sorted[Math.min(sorted.length - 1, (int) Math.ceil(p * sorted.length) - 1)];
+	}
+
+	private static double millis(long nanos) {
+		return nanos / 1e6;
+	}
+}
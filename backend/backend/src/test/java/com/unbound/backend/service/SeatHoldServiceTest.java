@@ -0,0 +1,120 @@
+package com.unbound.backend.service;
+
+import com.unbound.backend.TestData;
+import com.unbound.backend.dto.request.PaymentVerifyRequest;
+import com.unbound.backend.entity.Event;
+import com.unbound.backend.entity.Payment;
+import com.unbound.backend.entity.User;
+import com.unbound.backend.enums.PaymentStatus;
+import com.unbound.backend.enums.RegistrationStatus;
+import com.unbound.backend.enums.Role;
+import com.unbound.backend.exception.BadRequestException;
+import com.unbound.backend.repository.PaymentRepository;
+import com.unbound.backend.repository.RegistrationRepository;
+import com.unbound.backend.repository.SeatHoldRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@Import(TestData.class)
+class SeatHoldServiceTest {
+
+	@Autowired private SeatHoldService seatHoldService;
+	@Autowired private PaymentService paymentService;
+	@Autowired private PlatformTransactionManager transactionManager;
+	@Autowired private TestData testData;
+	@Autowired private PaymentRepository paymentRepository;
+	@Autowired private RegistrationRepository registrationRepository;
+	@Autowired private SeatHoldRepository seatHoldRepository;
+
+	@Test
+	void holdsCountAgainstCapacityUntilConvertedOrExpired() {
+		String run = TestData.newRun();
+		Event event = testData.save(testData.event(testData.club(run)).maxParticipants(2).feeAmount(250.0));
+		User first = testData.user(run, "Student 1", Role.STUDENT);
+		User second = testData.user(run, "Student 2", Role.STUDENT);
+		User third = testData.user(run, "Student 3", Role.STUDENT);
+		TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+		Payment firstPayment = tx.execute(s -> hold(event, first));
+		Payment secondPayment = tx.execute(s -> hold(event, second));
+		assertThrows(BadRequestException.class, () -> tx.execute(s -> hold(event, third)));
+		assertEquals(2, seatHoldService.takenSeats(event));
+
+		// Verified in time: the hold becomes the registration, the seat stays taken
+		assertTrue(convert(tx, firstPayment));
+		assertEquals(RegistrationStatus.CONFIRMED,
+				registrationRepository.findByUserAndEvent(first, event).orElseThrow().getStatus());
+		assertEquals(2, seatHoldService.takenSeats(event));
+
+		// Not paid within the ttl: the wheel releases the seat and fails the payment
+		LocalDateTime afterTtl = seatHoldRepository.findByPayment(secondPayment).orElseThrow().getExpiresAt().plusMinutes(1);
+		seatHoldService.advanceTo(afterTtl.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+		Payment expired = paymentRepository.findById(secondPayment.getId()).orElseThrow();
+		assertEquals(PaymentStatus.FAILED, expired.getStatus());
+		assertEquals(SeatHoldService.EXPIRED_REASON, expired.getFailureReason());
+		assertEquals(1, seatHoldService.takenSeats(event));
+
+		// Paid late while a seat is still free: it is taken after all
+		assertTrue(convert(tx, secondPayment));
+		assertEquals(2, registrationRepository.countByEventAndStatus(event, RegistrationStatus.CONFIRMED));
+		assertThrows(BadRequestException.class, () -> tx.execute(s -> hold(event, third)));
+
+		// Converted again at a full event (a verify retry): the user's own seat is not refused
+		assertTrue(convert(tx, firstPayment));
+		assertEquals(2, registrationRepository.countByEventAndStatus(event, RegistrationStatus.CONFIRMED));
+	}
+
+	@Test
+	void verifyingASettledPaymentAgainChangesNothing() {
+		String run = TestData.newRun();
+		Event event = testData.save(testData.event(testData.club(run)).maxParticipants(1).feeAmount(250.0));
+		User student = testData.user(run, "Student", Role.STUDENT);
+		TransactionTemplate tx = new TransactionTemplate(transactionManager);
+		Payment payment = tx.execute(s -> hold(event, student));
+		assertTrue(convert(tx, payment));
+		Payment paid = paymentRepository.findById(payment.getId()).orElseThrow();
+		paid.setStatus(PaymentStatus.SUCCESS);
+		paymentRepository.save(paid);
+
+		// A double submit, even one with a bad signature, returns the settled payment as is
+		PaymentVerifyRequest retry = new PaymentVerifyRequest();
+		retry.setRazorpayOrderId(payment.getRazorpayOrderId());
+		retry.setRazorpayPaymentId("pay_retry");
+		retry.setRazorpaySignature("not-a-signature");
+		assertEquals(PaymentStatus.SUCCESS, paymentService.verifyPayment(retry).getStatus());
+		assertEquals(PaymentStatus.SUCCESS, paymentRepository.findById(payment.getId()).orElseThrow().getStatus());
+		assertEquals(RegistrationStatus.CONFIRMED,
+				registrationRepository.findByUserAndEvent(student, event).orElseThrow().getStatus());
+	}
+
+	private boolean convert(TransactionTemplate tx, Payment payment) {
+		return Boolean.TRUE.equals(tx.execute(s ->
+				seatHoldService.convert(paymentRepository.findById(payment.getId()).orElseThrow())));
+	}
+
+	private Payment hold(Event event, User user) {
+		seatHoldService.reserve(user, event.getId());
+		Payment payment = paymentRepository.save(Payment.builder()
+				.user(user)
+				.event(event)
+				.amount(event.getFeeAmount())
+				.razorpayOrderId("order_" + UUID.randomUUID())
+				.status(PaymentStatus.PENDING)
+				.build());
+		seatHoldService.place(payment);
+		return payment;
+	}
+}
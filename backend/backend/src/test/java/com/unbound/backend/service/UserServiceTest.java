@@ -0,0 +1,55 @@
+package com.unbound.backend.service;
+
+import com.unbound.backend.TestData;
+import com.unbound.backend.dto.request.UpdateProfileRequest;
+import com.unbound.backend.entity.User;
+import com.unbound.backend.enums.Role;
+import com.unbound.backend.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@Import(TestData.class)
+class UserServiceTest {
+
+	@Autowired private UserService userService;
+	@Autowired private UserRepository userRepository;
+	@Autowired private TestData testData;
+
+	@AfterEach
+	void clearAuthentication() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void profileUpdateDoesNotWriteTheCachedSnapshotBack() {
+		User student = testData.user(TestData.newRun(), "Student", Role.STUDENT);
+		SecurityContextHolder.getContext().setAuthentication(
+				new UsernamePasswordAuthenticationToken(student.getEmail(), null, List.of()));
+		// Caches the principal while the account is still active
+		assertTrue(userService.getCurrentUser().isActive());
+
+		// Deactivated behind the cache's back, as a write on another node would be
+		student.setActive(false);
+		userRepository.save(student);
+
+		UpdateProfileRequest request = new UpdateProfileRequest();
+		request.setDepartment("Physics");
+		userService.updateMyProfile(request);
+
+		User stored = userRepository.findById(student.getId()).orElseThrow();
+		assertEquals("Physics", stored.getDepartment());
+		assertFalse(stored.isActive());
+	}
+}
@@ -0,0 +1,97 @@
+package com.unbound.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HashedTimingWheelTest {
+
+	@Test
+	void firesOnTheTickOfItsDeadlineNeverBefore() {
+		HashedTimingWheel<String, Integer> wheel = new HashedTimingWheel<>(100, 8, 0);
+		List<String> fired = new ArrayList<>();
+		wheel.schedule("a", 250, 1);
+		// Past one revolution (8 x 100ms), so it shares a bucket with tick 1
+		wheel.schedule("b", 900, 2);
+
+		wheel.advanceTo(299, (k, v) -> fired.add(k));
+		assertEquals(List.of(), fired);
+		wheel.advanceTo(300, (k, v) -> fired.add(k));
+		assertEquals(List.of("a"), fired);
+		wheel.advanceTo(899, (k, v) -> fired.add(k));
+		assertEquals(List.of("a"), fired);
+		wheel.advanceTo(900, (k, v) -> fired.add(k));
+		assertEquals(List.of("a", "b"), fired);
+		assertEquals(0, wheel.size());
+	}
+
+	@Test
+	void rescheduleReplacesAndCancelRemoves() {
+		HashedTimingWheel<String, Integer> wheel = new HashedTimingWheel<>(100, 8, 0);
+		List<Integer> fired = new ArrayList<>();
+		wheel.schedule("a", 200, 1);
+		wheel.schedule("a", 500, 2);
+		wheel.schedule("b", 300, 3);
+
+		assertTrue(wheel.cancel("b"));
+		assertFalse(wheel.cancel("b"));
+		wheel.advanceTo(400, (k, v) -> fired.add(v));
+		assertEquals(List.of(), fired);
+		wheel.advanceTo(500, (k, v) -> fired.add(v));
+		assertEquals(List.of(2), fired);
+	}
+
+	@Test
+	void matchesBruteForceAcrossLongGapsAndCallbackReschedules() {
+		Random random = new Random(42);
+		long tick = 10;
+		HashedTimingWheel<Integer, Long> wheel = new HashedTimingWheel<>(tick, 16, 1_000);
+		// key -> tick it must fire on: deadline rounded up, never before the next tick
+		Map<Integer, Long> due = new HashMap<>();
+		long now = 1_000;
+
+		for (int round = 0; round < 2_000; round++) {
+			long currentTick = now / tick;
+			int key = random.nextInt(300);
+			long deadline = now - 50 + random.nextInt(2_000);
+			wheel.schedule(key, deadline, deadline);
+			due.put(key, Math.max((deadline + tick - 1) / tick, currentTick + 1));
+			if (random.nextInt(4) == 0) {
+				int victim = random.nextInt(300);
+				assertEquals(due.remove(victim) != null, wheel.cancel(victim));
+			}
+
+			// Mostly short steps, sometimes longer than a whole revolution (160ms)
+			now += random.nextInt(10) == 0 ? random.nextInt(1_000) : random.nextInt(30);
+			long at = now;
+			long targetTick = at / tick;
+			List<Integer> expected = due.entrySet().stream()
+					.filter(e -> e.getValue() <= targetTick)
+					.map(Map.Entry::getKey)
+					.sorted()
+					.toList();
+			List<Integer> fired = new ArrayList<>();
+			wheel.advanceTo(at, (k, deadlineMillis) -> {
+				assertTrue(deadlineMillis <= at, "fired early");
+				fired.add(k);
+				due.remove(k);
+				if (k % 7 == 0 && k < 1_000) {
+					// Rescheduled from the callback: lands on the next tick, not this pass
+					wheel.schedule(k + 1_000, at, at);
+					due.put(k + 1_000, targetTick + 1);
+				}
+			});
+
+			assertEquals(expected, fired.stream().sorted().toList());
+			assertEquals(due.size(), wheel.size());
+		}
+	}
+}
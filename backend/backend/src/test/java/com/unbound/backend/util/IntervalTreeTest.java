@@ -0,0 +1,58 @@
+package com.unbound.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IntervalTreeTest {
+
+	@Test
+	void touchingIntervalsDoNotOverlap() {
+		IntervalTree<Long> tree = new IntervalTree<>();
+		tree.insert(10, 20, 1, 1L);
+
+		assertTrue(tree.findOverlapping(20, 30).isEmpty());
+		assertTrue(tree.findOverlapping(0, 10).isEmpty());
+		assertEquals(List.of(1L), tree.findOverlapping(19, 21));
+	}
+
+	@Test
+	void matchesBruteForceAcrossInsertsAndRemoves() {
+		Random random = new Random(42);
+		IntervalTree<Long> tree = new IntervalTree<>();
+		List<long[]> live = new ArrayList<>();
+
+		for (long id = 0; id < 2_000; id++) {
+			long start = random.nextInt(10_000);
+			long end = start + 1 + random.nextInt(200);
+			tree.insert(start, end, id, id);
+			live.add(new long[] { start, end, id });
+
+			if (random.nextInt(3) == 0) {
+				long[] victim = live.remove(random.nextInt(live.size()));
+				assertTrue(tree.remove(victim[0], victim[2]));
+			}
+		}
+		assertEquals(live.size(), tree.size());
+		assertFalse(tree.remove(-1, -1));
+
+		for (int q = 0; q < 500; q++) {
+			long start = random.nextInt(10_000);
+			long end = start + 1 + random.nextInt(300);
+
+			List<Long> expected = live.stream()
+					.filter(i -> i[0] < end && start < i[1])
+					.sorted((a, b) -> a[0] != b[0] ? Long.compare(a[0], b[0]) : Long.compare(a[2], b[2]))
+					.map(i -> i[2])
+					.toList();
+
+			assertEquals(expected, tree.findOverlapping(start, end));
+		}
+	}
+}